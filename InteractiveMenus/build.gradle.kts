@@ -1,6 +1,7 @@
 plugins {
     java
     `maven-publish`
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "dev.arctic"
@@ -9,12 +10,24 @@ version = "1.0-SNAPSHOT"
 repositories {
     mavenCentral()
     maven("https://repo.papermc.io/repository/maven-public/")
+    maven("https://repo.codemc.io/repository/maven-releases/")
 }
 
 dependencies {
     compileOnly("io.papermc.paper:paper-api:1.21-R0.1-SNAPSHOT")
     compileOnly("org.projectlombok:lombok:1.18.30")
+    // Only needed by VirtualRenderBackend, which servers without PacketEvents never load
+    compileOnly("com.github.retrooper:packetevents-spigot:2.5.0")
     annotationProcessor("org.projectlombok:lombok:1.18.30")
+
+    // Tests run outside a server too, with mocked entities
+    testImplementation("io.papermc.paper:paper-api:1.21-R0.1-SNAPSHOT")
+    testImplementation("org.junit.jupiter:junit-jupiter:5.10.2")
+    testImplementation("org.mockito:mockito-core:5.11.0")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Benchmarks run outside a server, so the API has to be on their runtime classpath
+    jmh("io.papermc.paper:paper-api:1.21-R0.1-SNAPSHOT")
 }
 
 java {
@@ -29,6 +42,21 @@ tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
 }
 
+tasks.test {
+    useJUnitPlatform()
+}
+
+// ./gradlew jmh, results in build/results/jmh
+jmh {
+    benchmarkMode.set(listOf("thrpt", "sample"))
+    timeUnit.set("us")
+    profilers.set(listOf("gc")) // Allocation rate per operation
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+}
+
 publishing {
     publications {
         create<MavenPublication>("mavenJava") {
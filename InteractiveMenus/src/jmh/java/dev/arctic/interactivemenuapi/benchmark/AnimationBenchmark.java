@@ -0,0 +1,65 @@
+package dev.arctic.interactivemenuapi.benchmark;
+
+import dev.arctic.interactivemenuapi.animation.Animation;
+import dev.arctic.interactivemenuapi.animation.AnimationChannel;
+import dev.arctic.interactivemenuapi.animation.AnimationPlayer;
+import dev.arctic.interactivemenuapi.animation.AnimationType;
+import dev.arctic.interactivemenuapi.animation.Easing;
+import dev.arctic.interactivemenuapi.animation.KeyframeAnimation;
+import dev.arctic.interactivemenuapi.animation.PlaybackMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-tick animation evaluation: the legacy {@link Animation#apply()}, its allocation-free
+ * equivalents and a sampled {@link KeyframeAnimation}.
+ */
+@State(Scope.Thread)
+public class AnimationBenchmark {
+
+    @Param({"UP", "VISIBILITY"})
+    public AnimationType type;
+
+    private Animation animation;
+    private AnimationPlayer player;
+    private long tick;
+
+    @Setup
+    public void setUp() {
+        animation = new Animation(type, 0.1);
+
+        KeyframeAnimation keyframes = KeyframeAnimation.builder(40)
+                .playbackMode(PlaybackMode.PING_PONG)
+                .keyframe(AnimationChannel.OFFSET_Y, 0, 0)
+                .keyframe(AnimationChannel.OFFSET_Y, 40, 0.5, Easing.EASE_IN_OUT_SINE)
+                .keyframe(AnimationChannel.SCALE, 0, 1)
+                .keyframe(AnimationChannel.SCALE, 40, 1.25, Easing.EASE_OUT_QUAD)
+                .build();
+        player = new AnimationPlayer();
+        player.play(keyframes, 0);
+    }
+
+    @Benchmark
+    public Animation.AnimationResult apply() {
+        return animation.apply();
+    }
+
+    @Benchmark
+    public void applyStatic(Blackhole blackhole) {
+        blackhole.consume(Animation.offsetX(type, 0.1));
+        blackhole.consume(Animation.offsetY(type, 0.1));
+        blackhole.consume(Animation.offsetZ(type, 0.1));
+        blackhole.consume(Animation.opacity(type, 0.1));
+    }
+
+    @Benchmark
+    public void keyframes(Blackhole blackhole) {
+        player.advance(++tick);
+        blackhole.consume(player.get(AnimationChannel.OFFSET_Y));
+        blackhole.consume(player.get(AnimationChannel.SCALE));
+    }
+}
@@ -0,0 +1,58 @@
+package dev.arctic.interactivemenuapi.benchmark;
+
+import dev.arctic.interactivemenuapi.animation.AnimationType;
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Element;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.objects.elements.TextElement;
+import dev.arctic.interactivemenuapi.objects.elements.ToggleElement;
+import dev.arctic.interactivemenuapi.render.RenderBackend;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds menus without a server: no world (so no anchor entity), a detached scheduler
+ * and entities rendered by the given in-memory backend.
+ */
+final class BenchmarkMenus {
+
+    private BenchmarkMenus() {
+    }
+
+    static Menu create(RenderBackend backend, int divisions, int elementsPerDivision) {
+        return create(backend, divisions, elementsPerDivision, false);
+    }
+
+    static Menu create(RenderBackend backend, int divisions, int elementsPerDivision, boolean compactStorage) {
+        MenuScheduler.startDetached();
+
+        Menu menu = new Menu(new Location(null, 0, 64, 0), 60);
+        menu.setDoCleanup(false);
+        menu.setViewDistance(0); // No owner to cull against
+        menu.setRenderBackend(backend);
+
+        for (int d = 0; d < divisions; d++) {
+            Vector divisionOffset = new Vector(0, d * 0.5, 0);
+            Division division = new Division(menu, menu.getRootLocation().clone().add(divisionOffset), divisionOffset,
+                    d % 2 == 0 ? AnimationType.NONE : AnimationType.UP, 0.05);
+            List<Element> elements = new ArrayList<>(elementsPerDivision);
+            for (int e = 0; e < elementsPerDivision; e++) {
+                Vector elementOffset = new Vector(e * 0.25, 0, 0);
+                // Mix of interactive and text-only elements, like a typical menu page
+                elements.add(e % 2 == 0
+                        ? new ToggleElement(menu, division, elementOffset, AnimationType.FORWARD, 0.1)
+                        : new TextElement(menu, division, elementOffset));
+            }
+            division.getElements().addAll(elements);
+            division.setCompactStorage(compactStorage);
+            menu.getDivisions().add(division);
+        }
+
+        menu.updateMenuLocation();
+        return menu;
+    }
+}
@@ -0,0 +1,75 @@
+package dev.arctic.interactivemenuapi.benchmark;
+
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Element;
+import dev.arctic.interactivemenuapi.registry.ElementRegistry;
+import dev.arctic.interactivemenuapi.render.RecordingRenderBackend;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.SplittableRandom;
+
+/**
+ * Resolving the element behind a clicked entity, as done for every interaction event.
+ */
+@State(Scope.Thread)
+public class ElementLookupBenchmark {
+
+    @Param({"64", "4096"})
+    public int menus;
+
+    private int[] ids;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RecordingRenderBackend backend = new RecordingRenderBackend(false);
+        for (int i = 0; i < menus; i++) {
+            BenchmarkMenus.create(backend, 2, 8);
+        }
+
+        int[] registered = new int[ElementRegistry.size()];
+        int count = 0;
+        for (int id = -1; count < registered.length; id--) {
+            if (ElementRegistry.get(id) != null) {
+                registered[count++] = id;
+            }
+        }
+
+        // Shuffled so the lookups do not walk the table in insertion order
+        SplittableRandom random = new SplittableRandom(42);
+        ids = new int[1 << 16];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = registered[random.nextInt(registered.length)];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MenuScheduler.shutdown();
+    }
+
+    @Benchmark
+    public Element hit() {
+        int id = ids[cursor++ & (ids.length - 1)];
+        return ElementRegistry.get(id);
+    }
+
+    // Clicks on entities that are not part of any menu
+    @Benchmark
+    public Element miss() {
+        return ElementRegistry.get((cursor++ & 0xFFFF) + 1);
+    }
+
+    @Benchmark
+    public Division hitDivision() {
+        Element element = hit();
+        return element.getParentDivision();
+    }
+}
@@ -0,0 +1,50 @@
+package dev.arctic.interactivemenuapi.benchmark;
+
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.render.RecordingRenderBackend;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Opening and closing a menu: construction, registration, spawning, cleanup and unregistration.
+ */
+@State(Scope.Thread)
+public class MenuChurnBenchmark {
+
+    @Param({"2", "8"})
+    public int divisions;
+
+    @Param({"8"})
+    public int elementsPerDivision;
+
+    @Param({"0", "256"})
+    public int liveMenus; // Menus that stay registered, so unregistering has to swap slots
+
+    private RecordingRenderBackend backend;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        backend = new RecordingRenderBackend(false);
+        for (int i = 0; i < liveMenus; i++) {
+            BenchmarkMenus.create(backend, 1, 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MenuScheduler.shutdown();
+    }
+
+    @Benchmark
+    public Menu createAndCleanup() {
+        Menu menu = BenchmarkMenus.create(backend, divisions, elementsPerDivision);
+        menu.cleanup();
+        return menu;
+    }
+}
@@ -0,0 +1,74 @@
+package dev.arctic.interactivemenuapi.benchmark;
+
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.render.RecordingRenderBackend;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Cost of one {@link Menu#updateMenuLocation()} call for N divisions of M elements, with and without compact storage.
+ */
+@State(Scope.Thread)
+public class MenuUpdateBenchmark {
+
+    @Param({"1", "8", "32"})
+    public int divisions;
+
+    @Param({"4", "16", "256"})
+    public int elementsPerDivision;
+
+    @Param({"false", "true"})
+    public boolean compactStorage;
+
+    private RecordingRenderBackend backend;
+    private Menu menu;
+    private double x;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        backend = new RecordingRenderBackend(false);
+        menu = BenchmarkMenus.create(backend, divisions, elementsPerDivision, compactStorage);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MenuScheduler.shutdown();
+    }
+
+    // Nothing moved: only the dirty checks run
+    @Benchmark
+    public Menu staticMenu() {
+        menu.updateMenuLocation();
+        return menu;
+    }
+
+    // The anchor moved: every division and element is recomputed and teleported
+    @Benchmark
+    public Menu movingMenu() {
+        x += 0.01;
+        menu.getRootLocation().setX(x);
+        menu.updateMenuLocation();
+        return menu;
+    }
+
+    // Everything is marked dirty but nothing moved: recomputes without teleports
+    @Benchmark
+    public Menu dirtyMenu() {
+        menu.markDirty();
+        menu.updateMenuLocation();
+        return menu;
+    }
+
+    // The whole scheduler tick, including the bucket walk, timing wheel and spawn queue
+    @Benchmark
+    public long schedulerTick() {
+        MenuScheduler.tick();
+        return MenuScheduler.getCurrentTick();
+    }
+}
@@ -31,6 +31,36 @@ public class Animation {
         return new AnimationResult(type, vectorChange, opacity);
     }
 
+    // Allocation-free equivalents of apply() for the tick loop
+
+    public static double offsetX(AnimationType type, double stepper) {
+        return switch (type) {
+            case LEFT -> -stepper;
+            case RIGHT -> stepper;
+            default -> 0;
+        };
+    }
+
+    public static double offsetY(AnimationType type, double stepper) {
+        return switch (type) {
+            case UP -> stepper;
+            case DOWN -> -stepper;
+            default -> 0;
+        };
+    }
+
+    public static double offsetZ(AnimationType type, double stepper) {
+        return switch (type) {
+            case FORWARD -> stepper;
+            case BACKWARD -> -stepper;
+            default -> 0;
+        };
+    }
+
+    public static double opacity(AnimationType type, double stepper) {
+        return type == AnimationType.VISIBILITY ? stepper : 1.0;
+    }
+
     public record AnimationResult(AnimationType type, Vector vectorChange, double opacity) {
     }
 }
@@ -0,0 +1,20 @@
+package dev.arctic.interactivemenuapi.animation;
+
+public enum AnimationChannel {
+    OFFSET_X(0),
+    OFFSET_Y(0),
+    OFFSET_Z(0),
+    SCALE(1),
+    ROTATION(0), // Degrees around the vertical axis
+    OPACITY(1);
+
+    private final double defaultValue;
+
+    AnimationChannel(double defaultValue) {
+        this.defaultValue = defaultValue;
+    }
+
+    public double getDefaultValue() {
+        return defaultValue;
+    }
+}
@@ -0,0 +1,54 @@
+package dev.arctic.interactivemenuapi.animation;
+
+/**
+ * Playback state of one {@link KeyframeAnimation} on one division or element.
+ * Advancing and sampling never allocate.
+ */
+public final class AnimationPlayer {
+
+    private KeyframeAnimation animation;
+    private long startTick;
+    private int frame;
+    private boolean settled = true;
+
+    public void play(KeyframeAnimation animation, long startTick) {
+        this.animation = animation;
+        this.startTick = startTick;
+        this.frame = 0;
+        this.settled = false;
+    }
+
+    public void stop() {
+        this.animation = null;
+        this.settled = true;
+    }
+
+    public KeyframeAnimation getAnimation() {
+        return animation;
+    }
+
+    // True while the animation still has frames that have not been applied
+    public boolean needsUpdate() {
+        return animation != null && !settled;
+    }
+
+    /**
+     * Moves the player to the given tick.
+     *
+     * @param currentTick The scheduler tick.
+     * @return True if an animation is loaded and its channels should be applied.
+     */
+    public boolean advance(long currentTick) {
+        if (animation == null) return false;
+        long elapsed = currentTick - startTick;
+        frame = animation.frameAt(elapsed);
+        if (animation.isFinished(elapsed)) {
+            settled = true;
+        }
+        return true;
+    }
+
+    public double get(AnimationChannel channel) {
+        return animation == null ? channel.getDefaultValue() : animation.sample(channel, frame);
+    }
+}
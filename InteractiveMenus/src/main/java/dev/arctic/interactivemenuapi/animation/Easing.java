@@ -0,0 +1,30 @@
+package dev.arctic.interactivemenuapi.animation;
+
+public enum Easing {
+    LINEAR,
+    EASE_IN_QUAD,
+    EASE_OUT_QUAD,
+    EASE_IN_OUT_QUAD,
+    EASE_IN_CUBIC,
+    EASE_OUT_CUBIC,
+    EASE_IN_OUT_CUBIC,
+    EASE_IN_OUT_SINE,
+    EASE_OUT_BACK,
+    STEP;
+
+    // Maps linear progress t in [0, 1] to eased progress
+    public double apply(double t) {
+        return switch (this) {
+            case LINEAR -> t;
+            case EASE_IN_QUAD -> t * t;
+            case EASE_OUT_QUAD -> 1 - (1 - t) * (1 - t);
+            case EASE_IN_OUT_QUAD -> t < 0.5 ? 2 * t * t : 1 - Math.pow(-2 * t + 2, 2) / 2;
+            case EASE_IN_CUBIC -> t * t * t;
+            case EASE_OUT_CUBIC -> 1 - Math.pow(1 - t, 3);
+            case EASE_IN_OUT_CUBIC -> t < 0.5 ? 4 * t * t * t : 1 - Math.pow(-2 * t + 2, 3) / 2;
+            case EASE_IN_OUT_SINE -> -(Math.cos(Math.PI * t) - 1) / 2;
+            case EASE_OUT_BACK -> 1 + 2.70158 * Math.pow(t - 1, 3) + 1.70158 * Math.pow(t - 1, 2);
+            case STEP -> t < 1 ? 0 : 1;
+        };
+    }
+}
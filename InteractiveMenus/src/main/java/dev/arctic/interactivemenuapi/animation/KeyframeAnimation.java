@@ -0,0 +1,150 @@
+package dev.arctic.interactivemenuapi.animation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable keyframe animation definition.
+ * Every channel is precomputed into one sample per tick when the animation is built, so sampling it is an array read.
+ * A single instance is meant to be shared by every division or element that plays it.
+ *
+ * <p>Example Usage:</p>
+ * <pre>
+ * {@code
+ * KeyframeAnimation bob = KeyframeAnimation.builder(40)
+ *         .playbackMode(PlaybackMode.PING_PONG)
+ *         .keyframe(AnimationChannel.OFFSET_Y, 0, 0.0)
+ *         .keyframe(AnimationChannel.OFFSET_Y, 40, 0.25, Easing.EASE_IN_OUT_SINE)
+ *         .build();
+ * division.playAnimation(bob);
+ * }
+ * </pre>
+ */
+public final class KeyframeAnimation {
+
+    private static final AnimationChannel[] CHANNELS = AnimationChannel.values();
+
+    private final int durationTicks;
+    private final PlaybackMode playbackMode;
+    private final double[][] curves; // Indexed by channel ordinal, null for channels without keyframes
+
+    private KeyframeAnimation(int durationTicks, PlaybackMode playbackMode, double[][] curves) {
+        this.durationTicks = durationTicks;
+        this.playbackMode = playbackMode;
+        this.curves = curves;
+    }
+
+    public static Builder builder(int durationTicks) {
+        return new Builder(durationTicks);
+    }
+
+    public int getDurationTicks() {
+        return durationTicks;
+    }
+
+    public PlaybackMode getPlaybackMode() {
+        return playbackMode;
+    }
+
+    public boolean hasChannel(AnimationChannel channel) {
+        return curves[channel.ordinal()] != null;
+    }
+
+    /**
+     * Maps elapsed ticks to a frame index according to the playback mode.
+     *
+     * @param elapsedTicks Ticks since the animation started.
+     * @return The frame index in [0, durationTicks].
+     */
+    public int frameAt(long elapsedTicks) {
+        if (elapsedTicks <= 0 || durationTicks == 0) return 0;
+        return switch (playbackMode) {
+            case ONCE -> (int) Math.min(elapsedTicks, durationTicks);
+            case LOOP -> (int) (elapsedTicks % durationTicks);
+            case PING_PONG -> {
+                int position = (int) (elapsedTicks % (2L * durationTicks));
+                yield position <= durationTicks ? position : 2 * durationTicks - position;
+            }
+        };
+    }
+
+    public boolean isFinished(long elapsedTicks) {
+        return playbackMode == PlaybackMode.ONCE && elapsedTicks >= durationTicks;
+    }
+
+    public double sample(AnimationChannel channel, int frame) {
+        double[] curve = curves[channel.ordinal()];
+        return curve == null ? channel.getDefaultValue() : curve[frame];
+    }
+
+    public static final class Builder {
+
+        private record Keyframe(int tick, double value, Easing easing) {
+        }
+
+        private final int durationTicks;
+        private PlaybackMode playbackMode = PlaybackMode.ONCE;
+        private final Map<AnimationChannel, List<Keyframe>> keyframes = new EnumMap<>(AnimationChannel.class);
+
+        private Builder(int durationTicks) {
+            if (durationTicks < 0) {
+                throw new IllegalArgumentException("Duration must not be negative");
+            }
+            this.durationTicks = durationTicks;
+        }
+
+        public Builder playbackMode(PlaybackMode playbackMode) {
+            this.playbackMode = playbackMode;
+            return this;
+        }
+
+        public Builder keyframe(AnimationChannel channel, int tick, double value) {
+            return keyframe(channel, tick, value, Easing.LINEAR);
+        }
+
+        /**
+         * Adds a keyframe. The easing shapes the segment that ends at this keyframe.
+         */
+        public Builder keyframe(AnimationChannel channel, int tick, double value, Easing easing) {
+            if (tick < 0 || tick > durationTicks) {
+                throw new IllegalArgumentException("Keyframe tick " + tick + " is outside 0.." + durationTicks);
+            }
+            keyframes.computeIfAbsent(channel, c -> new ArrayList<>()).add(new Keyframe(tick, value, easing));
+            return this;
+        }
+
+        public KeyframeAnimation build() {
+            double[][] curves = new double[CHANNELS.length][];
+            for (Map.Entry<AnimationChannel, List<Keyframe>> entry : keyframes.entrySet()) {
+                curves[entry.getKey().ordinal()] = compile(entry.getValue());
+            }
+            return new KeyframeAnimation(durationTicks, playbackMode, curves);
+        }
+
+        private double[] compile(List<Keyframe> frames) {
+            frames.sort(Comparator.comparingInt(Keyframe::tick));
+            double[] curve = new double[durationTicks + 1];
+
+            int next = 0;
+            for (int tick = 0; tick <= durationTicks; tick++) {
+                while (next < frames.size() && frames.get(next).tick() < tick) {
+                    next++;
+                }
+                if (next == 0) {
+                    curve[tick] = frames.get(0).value();
+                } else if (next == frames.size()) {
+                    curve[tick] = frames.get(frames.size() - 1).value();
+                } else {
+                    Keyframe from = frames.get(next - 1);
+                    Keyframe to = frames.get(next);
+                    double progress = (double) (tick - from.tick()) / (to.tick() - from.tick());
+                    curve[tick] = from.value() + (to.value() - from.value()) * to.easing().apply(progress);
+                }
+            }
+            return curve;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package dev.arctic.interactivemenuapi.animation;
+
+public enum MotionMode {
+    SNAP,
+    INTERPOLATED
+}
@@ -0,0 +1,7 @@
+package dev.arctic.interactivemenuapi.animation;
+
+public enum PlaybackMode {
+    ONCE,
+    LOOP,
+    PING_PONG
+}
@@ -0,0 +1,60 @@
+package dev.arctic.interactivemenuapi.builders;
+
+import dev.arctic.interactivemenuapi.interaction.ClickHandler;
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.objects.elements.DisplayElement;
+import dev.arctic.interactivemenuapi.template.ElementTemplate;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+
+public class DisplayElementBuilder {
+
+    private Menu parentMenu;
+    private Division parentDivision;
+    private Vector offset;
+    private ItemStack displayItem;
+    private ClickHandler clickHandler;
+
+    public DisplayElementBuilder setParentMenu(Menu parentMenu) {
+        this.parentMenu = parentMenu;
+        return this;
+    }
+
+    public DisplayElementBuilder setParentDivision(Division parentDivision) {
+        this.parentDivision = parentDivision;
+        return this;
+    }
+
+    public DisplayElementBuilder setOffset(Vector offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    public DisplayElementBuilder setDisplayItem(ItemStack displayItem) {
+        this.displayItem = displayItem;
+        return this;
+    }
+
+    public DisplayElementBuilder setClickHandler(ClickHandler clickHandler) {
+        this.clickHandler = clickHandler;
+        return this;
+    }
+
+    public DisplayElement build() {
+        DisplayElement element = new DisplayElement(parentMenu, parentDivision, offset, displayItem);
+        if (clickHandler != null) element.addClickHandler(clickHandler);
+        return element;
+    }
+
+    public ElementTemplate compile() {
+        Vector offset = this.offset == null ? new Vector() : this.offset.clone();
+        ItemStack displayItem = this.displayItem == null ? null : this.displayItem.clone();
+        ClickHandler clickHandler = this.clickHandler;
+        return (menu, division) -> {
+            DisplayElement element = new DisplayElement(menu, division, offset.clone(), displayItem);
+            if (clickHandler != null) element.addClickHandler(clickHandler);
+            return element;
+        };
+    }
+}
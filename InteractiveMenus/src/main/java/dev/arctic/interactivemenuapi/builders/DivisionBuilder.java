@@ -0,0 +1,86 @@
+package dev.arctic.interactivemenuapi.builders;
+
+import dev.arctic.interactivemenuapi.animation.AnimationType;
+import dev.arctic.interactivemenuapi.animation.MotionMode;
+import dev.arctic.interactivemenuapi.layout.LayoutContainer;
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.template.DivisionTemplate;
+import dev.arctic.interactivemenuapi.template.ElementTemplate;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+
+import java.util.List;
+
+public class DivisionBuilder {
+
+    private Menu parentMenu;
+    private Location initialLocation;
+    private Vector offset;
+    private AnimationType animationType = AnimationType.NONE;
+    private double animationStepper = 0.0;
+    private MotionMode motionMode;
+    private int interpolationTicks = 0;
+    private LayoutContainer layout;
+    private boolean compactStorage;
+
+    public DivisionBuilder setParentMenu(Menu parentMenu) {
+        this.parentMenu = parentMenu;
+        return this;
+    }
+
+    public DivisionBuilder setInitialLocation(Location initialLocation) {
+        this.initialLocation = initialLocation;
+        return this;
+    }
+
+    public DivisionBuilder setOffset(Vector offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    public DivisionBuilder setAnimationType(AnimationType animationType) {
+        this.animationType = animationType;
+        return this;
+    }
+
+    public DivisionBuilder setAnimationStepper(double animationStepper) {
+        this.animationStepper = animationStepper;
+        return this;
+    }
+
+    public DivisionBuilder setMotionMode(MotionMode motionMode) {
+        this.motionMode = motionMode;
+        return this;
+    }
+
+    public DivisionBuilder setInterpolationTicks(int interpolationTicks) {
+        this.interpolationTicks = interpolationTicks;
+        return this;
+    }
+
+    // Elements built for the division are placed by the layout once they are added to it
+    public DivisionBuilder setLayout(LayoutContainer layout) {
+        this.layout = layout;
+        return this;
+    }
+
+    // For divisions with many elements; see Division.setCompactStorage
+    public DivisionBuilder setCompactStorage(boolean compactStorage) {
+        this.compactStorage = compactStorage;
+        return this;
+    }
+
+    public Division build() {
+        Division division = new Division(parentMenu, initialLocation, offset, animationType, animationStepper);
+        division.setMotionMode(motionMode);
+        division.setInterpolationTicks(interpolationTicks);
+        division.setLayout(layout);
+        division.setCompactStorage(compactStorage);
+        return division;
+    }
+
+    public DivisionTemplate compile(ElementTemplate... elements) {
+        return new DivisionTemplate(offset == null ? new Vector() : offset, animationType, animationStepper, motionMode, interpolationTicks, compactStorage, List.of(elements));
+    }
+}
@@ -0,0 +1,59 @@
+package dev.arctic.interactivemenuapi.builders;
+
+import dev.arctic.interactivemenuapi.interfaces.IMenu;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.objects.VisibilityMode;
+import dev.arctic.interactivemenuapi.template.DivisionTemplate;
+import dev.arctic.interactivemenuapi.template.MenuTemplate;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+
+public class MenuBuilder {
+
+    private Location rootLocation;
+    private int timeoutSeconds;
+    private Player owner;
+    private double viewDistance = 48.0;
+    private VisibilityMode visibilityMode = VisibilityMode.PUBLIC;
+
+    public MenuBuilder setRootLocation(Location rootLocation) {
+        this.rootLocation = rootLocation;
+        return this;
+    }
+
+    public MenuBuilder setTimeoutSeconds(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+        return this;
+    }
+
+    public MenuBuilder setOwner(Player owner) {
+        this.owner = owner;
+        return this;
+    }
+
+    public MenuBuilder setViewDistance(double viewDistance) {
+        this.viewDistance = viewDistance;
+        return this;
+    }
+
+    public MenuBuilder setVisibilityMode(VisibilityMode visibilityMode) {
+        this.visibilityMode = visibilityMode;
+        return this;
+    }
+
+    // Built menus spawn nothing until a viewer first comes within the view distance
+    public IMenu build() {
+        Menu menu = new Menu(rootLocation, timeoutSeconds);
+        menu.setOwner(owner);
+        menu.setViewDistance(viewDistance);
+        menu.setVisibilityMode(visibilityMode);
+        menu.setSpawnOnView(true);
+        return menu;
+    }
+
+    public MenuTemplate compile(DivisionTemplate... divisions) {
+        return new MenuTemplate(timeoutSeconds, List.of(divisions));
+    }
+}
@@ -0,0 +1,66 @@
+package dev.arctic.interactivemenuapi.builders;
+
+import dev.arctic.interactivemenuapi.interaction.ClickHandler;
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.objects.elements.OverlayElement;
+import dev.arctic.interactivemenuapi.template.ElementTemplate;
+import org.bukkit.util.Vector;
+
+public class OverlayElementBuilder {
+
+    private Menu parentMenu;
+    private Division parentDivision;
+    private Vector offset;
+    private boolean interactToRemove = false;
+    private long displayDuration = 0L;
+    private ClickHandler clickHandler;
+
+    public OverlayElementBuilder setParentMenu(Menu parentMenu) {
+        this.parentMenu = parentMenu;
+        return this;
+    }
+
+    public OverlayElementBuilder setParentDivision(Division parentDivision) {
+        this.parentDivision = parentDivision;
+        return this;
+    }
+
+    public OverlayElementBuilder setOffset(Vector offset) {
+        this.offset = offset.clone().add(new Vector(0, 0, 0.1));
+        return this;
+    }
+
+    public OverlayElementBuilder setInteractToRemove(boolean interactToRemove) {
+        this.interactToRemove = interactToRemove;
+        return this;
+    }
+
+    public OverlayElementBuilder setDisplayDuration(long displayDuration) {
+        this.displayDuration = displayDuration;
+        return this;
+    }
+
+    public OverlayElementBuilder setClickHandler(ClickHandler clickHandler) {
+        this.clickHandler = clickHandler;
+        return this;
+    }
+
+    public OverlayElement build() {
+        OverlayElement element = new OverlayElement(parentMenu, parentDivision, offset, interactToRemove, displayDuration);
+        if (clickHandler != null) element.addClickHandler(clickHandler);
+        return element;
+    }
+
+    public ElementTemplate compile() {
+        Vector offset = this.offset == null ? new Vector() : this.offset.clone();
+        boolean interactToRemove = this.interactToRemove;
+        long displayDuration = this.displayDuration;
+        ClickHandler clickHandler = this.clickHandler;
+        return (menu, division) -> {
+            OverlayElement element = new OverlayElement(menu, division, offset.clone(), interactToRemove, displayDuration);
+            if (clickHandler != null) element.addClickHandler(clickHandler);
+            return element;
+        };
+    }
+}
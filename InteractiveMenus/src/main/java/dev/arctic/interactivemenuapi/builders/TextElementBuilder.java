@@ -0,0 +1,69 @@
+package dev.arctic.interactivemenuapi.builders;
+
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.objects.elements.TextElement;
+import dev.arctic.interactivemenuapi.template.ElementTemplate;
+import dev.arctic.interactivemenuapi.text.TextCache;
+import dev.arctic.interactivemenuapi.text.TextStyle;
+import net.kyori.adventure.text.Component;
+import org.bukkit.util.Vector;
+
+public class TextElementBuilder {
+
+    private Menu parentMenu;
+    private Division parentDivision;
+    private Vector offset;
+    private Component text = Component.empty();
+    private TextStyle textStyle = TextStyle.DEFAULT;
+
+    public TextElementBuilder setParentMenu(Menu parentMenu) {
+        this.parentMenu = parentMenu;
+        return this;
+    }
+
+    public TextElementBuilder setParentDivision(Division parentDivision) {
+        this.parentDivision = parentDivision;
+        return this;
+    }
+
+    public TextElementBuilder setOffset(Vector offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    public TextElementBuilder setText(Component text) {
+        this.text = text;
+        return this;
+    }
+
+    // MiniMessage markup
+    public TextElementBuilder setText(String miniMessage) {
+        this.text = TextCache.miniMessage(miniMessage);
+        return this;
+    }
+
+    public TextElementBuilder setTextStyle(TextStyle textStyle) {
+        this.textStyle = textStyle;
+        return this;
+    }
+
+    public TextElement build() {
+        TextElement element = new TextElement(parentMenu, parentDivision, offset);
+        element.setText(text);
+        element.setTextStyle(textStyle);
+        return element;
+    }
+
+    public ElementTemplate compile() {
+        Vector offset = this.offset == null ? new Vector() : this.offset.clone();
+        Component text = this.text;
+        TextStyle textStyle = this.textStyle;
+        return (menu, division) -> {
+            TextElement element = new TextElement(menu, division, offset.clone());
+            element.setText(text);
+            element.setTextStyle(textStyle);
+            return element;
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package dev.arctic.interactivemenuapi.builders;
+
+import dev.arctic.interactivemenuapi.animation.AnimationType;
+import dev.arctic.interactivemenuapi.interaction.ClickHandler;
+import dev.arctic.interactivemenuapi.interaction.ToggleListener;
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.objects.elements.ToggleElement;
+import dev.arctic.interactivemenuapi.template.ElementTemplate;
+import org.bukkit.util.Vector;
+
+public class ToggleElementBuilder {
+
+    private Menu parentMenu;
+    private Division parentDivision;
+    private Vector offset;
+    private AnimationType pressAnimationType = AnimationType.NONE;
+    private double pressAnimationStepper = 0.0;
+    private ClickHandler clickHandler;
+    private ToggleListener toggleListener;
+
+    public ToggleElementBuilder setParentMenu(Menu parentMenu) {
+        this.parentMenu = parentMenu;
+        return this;
+    }
+
+    public ToggleElementBuilder setParentDivision(Division parentDivision) {
+        this.parentDivision = parentDivision;
+        return this;
+    }
+
+    public ToggleElementBuilder setOffset(Vector offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    public ToggleElementBuilder setPressAnimationType(AnimationType pressAnimationType) {
+        this.pressAnimationType = pressAnimationType;
+        return this;
+    }
+
+    public ToggleElementBuilder setPressAnimationStepper(double pressAnimationStepper) {
+        this.pressAnimationStepper = pressAnimationStepper;
+        return this;
+    }
+
+    public ToggleElementBuilder setClickHandler(ClickHandler clickHandler) {
+        this.clickHandler = clickHandler;
+        return this;
+    }
+
+    public ToggleElementBuilder setToggleListener(ToggleListener toggleListener) {
+        this.toggleListener = toggleListener;
+        return this;
+    }
+
+    public ToggleElement build() {
+        ToggleElement element = new ToggleElement(parentMenu, parentDivision, offset, pressAnimationType, pressAnimationStepper);
+        if (clickHandler != null) element.addClickHandler(clickHandler);
+        if (toggleListener != null) element.addToggleListener(toggleListener);
+        return element;
+    }
+
+    // Every element built from the template shares the same handler and listener instances
+    public ElementTemplate compile() {
+        Vector offset = this.offset == null ? new Vector() : this.offset.clone();
+        AnimationType pressAnimationType = this.pressAnimationType;
+        double pressAnimationStepper = this.pressAnimationStepper;
+        ClickHandler clickHandler = this.clickHandler;
+        ToggleListener toggleListener = this.toggleListener;
+        return (menu, division) -> {
+            ToggleElement element = new ToggleElement(menu, division, offset.clone(), pressAnimationType, pressAnimationStepper);
+            if (clickHandler != null) element.addClickHandler(clickHandler);
+            if (toggleListener != null) element.addToggleListener(toggleListener);
+            return element;
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package dev.arctic.interactivemenuapi.commands;
+
+import dev.arctic.interactivemenuapi.interaction.InteractionGate;
+import dev.arctic.interactivemenuapi.metrics.Histogram;
+import dev.arctic.interactivemenuapi.metrics.MenuMetrics;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.orphan.OrphanReaper;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Prints {@link MenuMetrics} in game or in the console. The library has no plugin.yml of its own, so the host plugin
+ * declares a command and registers this as its executor and tab completer:
+ *
+ * <pre>{@code
+ * MenuDebugCommand debug = new MenuDebugCommand();
+ * getCommand("menudebug").setExecutor(debug);
+ * getCommand("menudebug").setTabCompleter(debug);
+ * }</pre>
+ *
+ * <p>Usage: {@code /<label> [summary|top [count]|reset|timing <on|off>]}</p>
+ */
+public class MenuDebugCommand implements CommandExecutor, TabCompleter {
+
+    private static final int DEFAULT_TOP = 5;
+
+    @Override
+    public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
+        String action = args.length == 0 ? "summary" : args[0].toLowerCase(Locale.ROOT);
+        switch (action) {
+            case "summary" -> sendSummary(sender);
+            case "top" -> sendTop(sender, args.length > 1 ? parseCount(args[1]) : DEFAULT_TOP);
+            case "reset" -> {
+                MenuMetrics.reset();
+                InteractionGate.resetCounters();
+                sender.sendMessage(Component.text("Menu metrics reset.", NamedTextColor.GREEN));
+            }
+            case "timing" -> {
+                if (args.length > 1) {
+                    MenuMetrics.setEnabled(args[1].equalsIgnoreCase("on"));
+                }
+                sender.sendMessage(Component.text("Menu timing is " + (MenuMetrics.isEnabled() ? "on" : "off") + ".", NamedTextColor.GREEN));
+            }
+            default -> {
+                sender.sendMessage(Component.text("Usage: /" + label + " [summary|top [count]|reset|timing <on|off>]", NamedTextColor.RED));
+                return true;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command, @NotNull String alias, @NotNull String[] args) {
+        if (args.length == 1) {
+            return List.of("summary", "top", "reset", "timing");
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("timing")) {
+            return List.of("on", "off");
+        }
+        return List.of();
+    }
+
+    private void sendSummary(CommandSender sender) {
+        sender.sendMessage(Component.text("InteractiveMenus metrics", NamedTextColor.GOLD));
+        line(sender, "Live", MenuMetrics.getLiveMenus() + " menus, " + MenuMetrics.getLiveDivisions() + " divisions, "
+                + MenuMetrics.getLiveElements() + " elements, " + MenuMetrics.getLiveEntities() + " entities, "
+                + MenuMetrics.getLiveVirtualEntities() + " virtual entities ("
+                + MenuMetrics.getRegisteredEntities() + " clickable)");
+        line(sender, "Totals", MenuMetrics.getSpawns() + " spawns, " + MenuMetrics.getTeleports() + " teleports, "
+                + MenuMetrics.getAppearanceUpdates() + " appearance updates, " + MenuMetrics.getTextUpdates() + " text updates, " + MenuMetrics.getRemovals() + " removals, "
+                + MenuMetrics.getCleanups() + " menu cleanups");
+        line(sender, "Orphans", OrphanReaper.getRemoved() + " removed (" + OrphanReaper.getRemovedOnLoad() + " on chunk load, "
+                + OrphanReaper.getLastSweepRemoved() + " in the last sweep) of " + OrphanReaper.getScanned() + " scanned");
+        line(sender, "Clicks", InteractionGate.getAccepted() + " accepted, " + InteractionGate.getCoalesced() + " coalesced, "
+                + InteractionGate.getDroppedByPlayer() + " over the player limit, " + InteractionGate.getDroppedByMenu() + " over the menu limit");
+        line(sender, "Teleports/tick", counts(MenuMetrics.getTeleportsPerTick()));
+        line(sender, "Spawns/tick", counts(MenuMetrics.getSpawnsPerTick()));
+        line(sender, "Tick", nanos(MenuMetrics.getTickNanos()));
+        line(sender, "Update loop", nanos(MenuMetrics.getUpdateNanos()));
+        line(sender, "Timers", nanos(MenuMetrics.getTimerNanos()));
+        line(sender, "Spawn queue", nanos(MenuMetrics.getSpawnQueueNanos()));
+        line(sender, "Menu cleanup", nanos(MenuMetrics.getCleanupNanos()));
+        if (!MenuMetrics.isEnabled()) {
+            sender.sendMessage(Component.text("Timing is off, durations are not being recorded.", NamedTextColor.GRAY));
+        }
+    }
+
+    private void sendTop(CommandSender sender, int count) {
+        List<Menu> menus = MenuMetrics.getMostExpensiveMenus(count);
+        sender.sendMessage(Component.text("Most expensive menus (average update)", NamedTextColor.GOLD));
+        if (menus.isEmpty()) {
+            sender.sendMessage(Component.text("No live menus.", NamedTextColor.GRAY));
+            return;
+        }
+        for (Menu menu : menus) {
+            String owner = menu.getOwner() != null ? menu.getOwner().getName() : "-";
+            line(sender, String.valueOf(menu.getMenuUUID()), micros(menu.getAverageUpdateNanos()) + " avg, "
+                    + micros(menu.getMaxUpdateNanos()) + " max, " + menu.getDivisions().size() + " divisions, owner " + owner
+                    + (menu.isCulled() ? ", culled" : "") + (menu.isSuspended() ? ", suspended" : ""));
+        }
+    }
+
+    private static void line(CommandSender sender, String key, String value) {
+        sender.sendMessage(Component.text(key + ": ", NamedTextColor.YELLOW).append(Component.text(value, NamedTextColor.WHITE)));
+    }
+
+    private static String nanos(Histogram histogram) {
+        if (histogram.getCount() == 0) return "no samples";
+        return "mean " + micros((long) histogram.getMean()) + ", p50 " + micros(histogram.getPercentile(0.5))
+                + ", p99 " + micros(histogram.getPercentile(0.99)) + ", max " + micros(histogram.getMax());
+    }
+
+    private static String counts(Histogram histogram) {
+        if (histogram.getCount() == 0) return "no samples";
+        return String.format(Locale.ROOT, "mean %.1f, p99 %d, max %d",
+                histogram.getMean(), histogram.getPercentile(0.99), histogram.getMax());
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1fµs", nanos / 1000.0);
+    }
+
+    private static int parseCount(String value) {
+        try {
+            return Math.max(1, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return DEFAULT_TOP;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dev.arctic.interactivemenuapi.events;
 
+import dev.arctic.interactivemenuapi.interaction.ClickType;
 import dev.arctic.interactivemenuapi.interfaces.IMenu;
+import dev.arctic.interactivemenuapi.objects.Element;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
@@ -8,12 +10,16 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Event that is called when a player interacts with an element in an InteractiveMenu.
+ * Only fired while at least one listener is registered for it; prefer a ClickHandler on the element itself,
+ * which is called directly for that element's clicks only.
  */
 public class MenuInteractionEvent extends Event {
     private static final HandlerList HANDLERS = new HandlerList();
     private final IMenu menu;
     private final String elementFlag;
     private final Player player;
+    private final Element element;
+    private final ClickType clickType;
 
     /**
      * Constructs a new MenuInteractionEvent.
@@ -26,6 +32,35 @@ public class MenuInteractionEvent extends Event {
         this.menu = menu;
         this.elementFlag = elementFlag;
         this.player = player;
+        this.element = null;
+        this.clickType = ClickType.RIGHT;
+    }
+
+    /**
+     * Constructs a new MenuInteractionEvent for an element resolved from its clicked entity.
+     *
+     * @param menu The InteractiveMenu that contains the interacted element.
+     * @param element The interacted element.
+     * @param player The player who interacted with the element.
+     */
+    public MenuInteractionEvent(IMenu menu, Element element, Player player) {
+        this(menu, element, player, ClickType.RIGHT);
+    }
+
+    /**
+     * Constructs a new MenuInteractionEvent for an element resolved from its clicked entity.
+     *
+     * @param menu The InteractiveMenu that contains the interacted element.
+     * @param element The interacted element.
+     * @param player The player who interacted with the element.
+     * @param clickType How the element was clicked.
+     */
+    public MenuInteractionEvent(IMenu menu, Element element, Player player, ClickType clickType) {
+        this.menu = menu;
+        this.elementFlag = element.getElementFlag();
+        this.player = player;
+        this.element = element;
+        this.clickType = clickType;
     }
 
     /**
@@ -55,6 +90,33 @@ public class MenuInteractionEvent extends Event {
         return player;
     }
 
+    /**
+     * Gets the element that was interacted with.
+     *
+     * @return The element, or null if the event was created from a flag only.
+     */
+    public Element getElement() {
+        return element;
+    }
+
+    /**
+     * Gets how the element was clicked.
+     *
+     * @return The click type, RIGHT if the event was created without one.
+     */
+    public ClickType getClickType() {
+        return clickType;
+    }
+
+    /**
+     * Checks whether any plugin listens for this event, so it is only constructed and called when needed.
+     *
+     * @return True if at least one listener is registered.
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
     @Override
     public @NotNull HandlerList getHandlers() {
         return HANDLERS;
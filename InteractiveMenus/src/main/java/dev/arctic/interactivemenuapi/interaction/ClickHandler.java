@@ -0,0 +1,26 @@
+package dev.arctic.interactivemenuapi.interaction;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Callback attached to a single element, called directly when that element is clicked.
+ * Unlike a listener for the global MenuInteractionEvent it never runs for clicks on other elements,
+ * so nothing has to compare element flags.
+ *
+ * <pre>{@code
+ * element.addClickHandler((player, click) -> {
+ *     if (click.isRightClick()) player.sendMessage("Confirmed");
+ * });
+ * }</pre>
+ */
+@FunctionalInterface
+public interface ClickHandler {
+
+    /**
+     * Called on the thread that handled the click, after the element's own behaviour ran.
+     *
+     * @param player    The player who clicked.
+     * @param clickType How the element was clicked.
+     */
+    void onClick(Player player, ClickType clickType);
+}
@@ -0,0 +1,30 @@
+package dev.arctic.interactivemenuapi.interaction;
+
+/**
+ * How a player clicked an element's Interaction entity.
+ */
+public enum ClickType {
+    LEFT,
+    RIGHT,
+    SHIFT_LEFT,
+    SHIFT_RIGHT;
+
+    public static ClickType of(boolean leftClick, boolean sneaking) {
+        if (leftClick) {
+            return sneaking ? SHIFT_LEFT : LEFT;
+        }
+        return sneaking ? SHIFT_RIGHT : RIGHT;
+    }
+
+    public boolean isLeftClick() {
+        return this == LEFT || this == SHIFT_LEFT;
+    }
+
+    public boolean isRightClick() {
+        return this == RIGHT || this == SHIFT_RIGHT;
+    }
+
+    public boolean isShiftClick() {
+        return this == SHIFT_LEFT || this == SHIFT_RIGHT;
+    }
+}
@@ -0,0 +1,139 @@
+package dev.arctic.interactivemenuapi.interaction;
+
+import dev.arctic.interactivemenuapi.objects.Element;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filters clicks before they reach an element, so auto-clickers and duplicate packets cannot drive teleports,
+ * animations and handler calls at packet rate.
+ *
+ * <p>A click is dropped when:</p>
+ * <ul>
+ *     <li>the same player already clicked the same element this tick, e.g. main and off hand, or interact and attack
+ *     for one click (coalesced)</li>
+ *     <li>the player's token bucket is empty (default 8 clicks per second, bursts of 8)</li>
+ *     <li>the menu's token bucket is empty (default 40 clicks per second, bursts of 40), shared by all its viewers</li>
+ * </ul>
+ * A rate of 0 disables that limit. Dropped clicks are counted for the debug command.
+ */
+public final class InteractionGate {
+
+    private static final class PlayerState {
+        private final TokenBucket bucket = new TokenBucket();
+        private Element lastElement;
+        private long lastTick = -1;
+    }
+
+    private static final Map<UUID, PlayerState> players = new ConcurrentHashMap<>();
+
+    //Limits
+    private static volatile double playerRate = 8.0;
+    private static volatile int playerBurst = 8;
+    private static volatile double menuRate = 40.0;
+    private static volatile int menuBurst = 40;
+
+    //Counters
+    private static final LongAdder accepted = new LongAdder();
+    private static final LongAdder coalesced = new LongAdder();
+    private static final LongAdder droppedByPlayer = new LongAdder();
+    private static final LongAdder droppedByMenu = new LongAdder();
+
+    private InteractionGate() {
+    }
+
+    /**
+     * Decides whether a click on an element should be dispatched.
+     *
+     * @param player  The player who clicked.
+     * @param element The element resolved from the clicked entity.
+     * @return True to dispatch the click, false to drop it.
+     */
+    public static boolean tryAccept(Player player, Element element) {
+        PlayerState state = players.computeIfAbsent(player.getUniqueId(), id -> new PlayerState());
+        long tick = MenuScheduler.getCurrentTick(); // Bukkit.getCurrentTick() is not supported on Folia
+        synchronized (state) {
+            if (state.lastElement == element && state.lastTick == tick) {
+                coalesced.increment();
+                return false;
+            }
+            state.lastElement = element;
+            state.lastTick = tick;
+        }
+
+        long now = System.nanoTime();
+        if (playerRate > 0 && !state.bucket.tryAcquire(now, playerRate, playerBurst)) {
+            droppedByPlayer.increment();
+            return false;
+        }
+        Menu menu = element.getParentMenu();
+        if (menu != null && menuRate > 0 && !menu.getClickBucket().tryAcquire(now, menuRate, menuBurst)) {
+            droppedByMenu.increment();
+            return false;
+        }
+        accepted.increment();
+        return true;
+    }
+
+    // Called when the player quits
+    public static void forget(UUID playerId) {
+        players.remove(playerId);
+    }
+
+    /**
+     * Sets the click limit for each player across all menus.
+     *
+     * @param clicksPerSecond Sustained rate, 0 to disable the limit.
+     * @param burst           Clicks allowed in a row before the rate applies, at least 1.
+     */
+    public static void setPlayerLimit(double clicksPerSecond, int burst) {
+        if (clicksPerSecond < 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be at least 0 and burst at least 1");
+        }
+        playerRate = clicksPerSecond;
+        playerBurst = burst;
+    }
+
+    /**
+     * Sets the click limit for each menu across all of its viewers.
+     *
+     * @param clicksPerSecond Sustained rate, 0 to disable the limit.
+     * @param burst           Clicks allowed in a row before the rate applies, at least 1.
+     */
+    public static void setMenuLimit(double clicksPerSecond, int burst) {
+        if (clicksPerSecond < 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be at least 0 and burst at least 1");
+        }
+        menuRate = clicksPerSecond;
+        menuBurst = burst;
+    }
+
+    public static long getAccepted() {
+        return accepted.sum();
+    }
+
+    public static long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public static long getDroppedByPlayer() {
+        return droppedByPlayer.sum();
+    }
+
+    public static long getDroppedByMenu() {
+        return droppedByMenu.sum();
+    }
+
+    public static void resetCounters() {
+        accepted.reset();
+        coalesced.reset();
+        droppedByPlayer.reset();
+        droppedByMenu.reset();
+    }
+}
@@ -0,0 +1,16 @@
+package dev.arctic.interactivemenuapi.interaction;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Callback attached to a toggle element, called whenever its pressed state changes.
+ */
+@FunctionalInterface
+public interface ToggleListener {
+
+    /**
+     * @param player  The player who toggled the element, or null if it was changed through the API.
+     * @param pressed The new state.
+     */
+    void onToggle(Player player, boolean pressed);
+}
@@ -0,0 +1,31 @@
+package dev.arctic.interactivemenuapi.interaction;
+
+/**
+ * Token bucket holding only its own state; rate and burst are passed in on every call so a single global
+ * setting applies to every bucket and can be changed at runtime. Starts full.
+ */
+public final class TokenBucket {
+
+    private double tokens = -1; // Negative until the first call fills the bucket
+    private long lastRefillNanos;
+
+    /**
+     * Takes one token if there is one.
+     *
+     * @param nowNanos      The current System.nanoTime().
+     * @param ratePerSecond Tokens added per second.
+     * @param burst         Maximum number of tokens the bucket holds.
+     * @return True if a token was taken.
+     */
+    public synchronized boolean tryAcquire(long nowNanos, double ratePerSecond, int burst) {
+        if (tokens < 0) {
+            tokens = burst;
+        } else {
+            tokens = Math.min(burst, tokens + (nowNanos - lastRefillNanos) * ratePerSecond / 1_000_000_000.0);
+        }
+        lastRefillNanos = nowNanos;
+        if (tokens < 1) return false;
+        tokens--;
+        return true;
+    }
+}
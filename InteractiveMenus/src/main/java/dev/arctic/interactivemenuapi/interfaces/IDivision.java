@@ -16,7 +16,7 @@ import java.util.List;
  * <pre>
  * {@code
  * IDivision division = new DivisionImplementation(menu, location, offset, animationType, stepper);
- * division.updateLocation(menu.getRootLocation());
+ * division.updateTransform();
  * division.cleanup();
  * }
  * </pre>
@@ -24,11 +24,9 @@ import java.util.List;
 public interface IDivision {
 
     /**
-     * Updates the location of the division relative to the root menu location.
-     *
-     * @param rootMenuLocation The root location of the parent menu.
+     * Recomputes the division's world transform from its parent menu and updates the elements whose transform changed.
      */
-    void updateLocation(Location rootMenuLocation);
+    void updateTransform();
 
     /**
      * Applies the division's animation based on its current animation type and stepper.
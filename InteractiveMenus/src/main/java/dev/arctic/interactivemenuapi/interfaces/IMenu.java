@@ -27,7 +27,7 @@ import java.util.UUID;
 public interface IMenu {
 
     /**
-     * Initializes the menu by setting up the anchor entity and starting necessary tasks.
+     * Initializes the menu by setting up the anchor entity and registering it with the MenuScheduler.
      */
     void initializeMenu();
 
@@ -49,14 +49,16 @@ public interface IMenu {
     void updateMenuLocation();
 
     /**
-     * Starts the GUI update task, which periodically updates the menu.
+     * Runs one update pass of the menu. Called by the shared MenuScheduler tick loop.
      */
-    void startRunnableUpdateGUI();
+    void update();
 
     /**
-     * Starts the cleanup task, which checks for menu timeout and cleans up if necessary.
+     * Checks whether the menu has gone longer than its timeout without an interaction.
+     *
+     * @return True if the timeout has been exceeded, false otherwise.
      */
-    void startCleanupTask();
+    boolean isTimeoutExceeded();
 
     /**
      * Clears all divisions and elements from the menu.
@@ -64,7 +66,7 @@ public interface IMenu {
     void clearMenu();
 
     /**
-     * Cleans up the menu by removing the anchor entity and canceling any active tasks.
+     * Cleans up the menu by removing the anchor entity and unregistering it from the MenuScheduler.
      */
     void cleanup();
 
@@ -0,0 +1,36 @@
+package dev.arctic.interactivemenuapi.interfaces;
+
+/**
+ * Interface representing an Overlay Element in the Interactive Menu API.
+ * Overlay Elements are layered in front of other elements and can either be timed or interactively removed.
+ */
+public interface IOverlayElement extends IElement {
+
+    /**
+     * Gets whether the overlay element should be interactively removed.
+     *
+     * @return True if interactively removed, false otherwise.
+     */
+    boolean isInteractToRemove();
+
+    /**
+     * Sets whether the overlay element should be interactively removed.
+     *
+     * @param interactToRemove True if interactively removed, false otherwise.
+     */
+    void setInteractToRemove(boolean interactToRemove);
+
+    /**
+     * Gets the display duration of the overlay element in ticks.
+     *
+     * @return The display duration in ticks.
+     */
+    long getDisplayDuration();
+
+    /**
+     * Sets the display duration of the overlay element in ticks.
+     *
+     * @param displayDuration The display duration in ticks.
+     */
+    void setDisplayDuration(long displayDuration);
+}
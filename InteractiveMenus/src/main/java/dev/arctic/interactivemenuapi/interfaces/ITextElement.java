@@ -0,0 +1,8 @@
+package dev.arctic.interactivemenuapi.interfaces;
+
+/**
+ * Interface representing a Text Element in the Interactive Menu API.
+ * Text Elements have no interactions or animations.
+ */
+public interface ITextElement extends IElement {
+}
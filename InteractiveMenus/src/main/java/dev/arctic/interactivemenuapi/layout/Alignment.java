@@ -0,0 +1,18 @@
+package dev.arctic.interactivemenuapi.layout;
+
+public enum Alignment {
+    START(0.0),
+    CENTER(0.5),
+    END(1.0);
+
+    private final double factor;
+
+    Alignment(double factor) {
+        this.factor = factor;
+    }
+
+    // Fraction of the free space placed before the aligned item
+    public double getFactor() {
+        return factor;
+    }
+}
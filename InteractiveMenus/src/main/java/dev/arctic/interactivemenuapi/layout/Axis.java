@@ -0,0 +1,6 @@
+package dev.arctic.interactivemenuapi.layout;
+
+public enum Axis {
+    HORIZONTAL, // Left to right along X
+    VERTICAL    // Top to bottom along -Y
+}
@@ -0,0 +1,59 @@
+package dev.arctic.interactivemenuapi.layout;
+
+/**
+ * Places children in fixed-size cells, left to right and then top to bottom. A child's position only depends on its
+ * index, so inserting or removing one only moves the children after it.
+ */
+public class GridLayout extends LayoutContainer {
+
+    private final int columns;
+    private final double cellWidth;
+    private final double cellHeight;
+    private double columnSpacing;
+    private double rowSpacing;
+    private Alignment cellHorizontal = Alignment.CENTER;
+    private Alignment cellVertical = Alignment.CENTER;
+
+    public GridLayout(int columns, double cellWidth, double cellHeight) {
+        if (columns < 1) {
+            throw new IllegalArgumentException("A grid needs at least one column");
+        }
+        this.columns = columns;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public void setSpacing(double columnSpacing, double rowSpacing) {
+        this.columnSpacing = columnSpacing;
+        this.rowSpacing = rowSpacing;
+        invalidate(0);
+    }
+
+    // How children smaller than their cell are placed inside it
+    public void setCellAlignment(Alignment horizontal, Alignment vertical) {
+        this.cellHorizontal = horizontal;
+        this.cellVertical = vertical;
+        invalidate(0);
+    }
+
+    @Override
+    protected int arrange(int from) {
+        int count = size();
+        for (int i = from; i < count; i++) {
+            double left = (i % columns) * (cellWidth + columnSpacing);
+            double top = (i / columns) * (cellHeight + rowSpacing);
+            centerX[i] = left + cellHorizontal.getFactor() * (cellWidth - widths[i]) + widths[i] / 2;
+            centerY[i] = top + cellVertical.getFactor() * (cellHeight - heights[i]) + heights[i] / 2;
+        }
+
+        int usedColumns = Math.min(count, columns);
+        int rows = (count + columns - 1) / columns;
+        contentWidth = usedColumns == 0 ? 0 : usedColumns * cellWidth + (usedColumns - 1) * columnSpacing;
+        contentHeight = rows == 0 ? 0 : rows * cellHeight + (rows - 1) * rowSpacing;
+        return from;
+    }
+}
@@ -0,0 +1,17 @@
+package dev.arctic.interactivemenuapi.layout;
+
+/**
+ * Padding around the content of a layout, in blocks.
+ */
+public record Insets(double top, double right, double bottom, double left) {
+
+    public static final Insets NONE = new Insets(0, 0, 0, 0);
+
+    public static Insets of(double all) {
+        return new Insets(all, all, all, all);
+    }
+
+    public static Insets of(double vertical, double horizontal) {
+        return new Insets(vertical, horizontal, vertical, horizontal);
+    }
+}
@@ -0,0 +1,222 @@
+package dev.arctic.interactivemenuapi.layout;
+
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Element;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the offsets of a division's elements from per-element size hints, instead of callers placing every element
+ * by hand. Attach it with {@link Division#setLayout(LayoutContainer)}; the division lays out before it computes its
+ * elements, so any number of changes in one tick cost a single pass.
+ *
+ * <p>Positions are cached. A change to a child only invalidates the positions from that child on, and only elements
+ * whose offset actually changed are marked dirty, so appending to a long list moves nothing but the new element.
+ * Offsets are written in place: X grows to the right, Y grows upward and Z is left as the element had it.
+ * Each element's offset is the center of its box.</p>
+ *
+ * <p>The content can be aligned around the division's origin with {@link #setAnchor(Alignment, Alignment)};
+ * with anything but START, a change of the content size moves every element.</p>
+ */
+public abstract class LayoutContainer {
+
+    private static final int CLEAN = Integer.MAX_VALUE;
+
+    protected Division division;
+    protected final List<Element> children = new ArrayList<>();
+
+    //Per child, by index: size hint and cached box center in content space (X right, Y down from the top left)
+    protected double[] widths = new double[8];
+    protected double[] heights = new double[8];
+    protected double[] centerX = new double[8];
+    protected double[] centerY = new double[8];
+
+    //Content
+    protected double contentWidth;
+    protected double contentHeight;
+    private Insets padding = Insets.NONE;
+    private Alignment horizontalAnchor = Alignment.START;
+    private Alignment verticalAnchor = Alignment.START;
+    private double shiftX;
+    private double shiftY;
+    private int firstDirty = 0;
+
+    public Division getDivision() {
+        return division;
+    }
+
+    // Set by Division.setLayout
+    public void setDivision(Division division) {
+        this.division = division;
+        invalidate(0);
+    }
+
+    public List<Element> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    public int size() {
+        return children.size();
+    }
+
+    public void add(Element element, double width, double height) {
+        add(children.size(), element, width, height);
+    }
+
+    public void add(int index, Element element, double width, double height) {
+        int count = children.size();
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + count + " children");
+        }
+        ensureCapacity(count + 1);
+        shift(index, index + 1, count - index);
+        children.add(index, element);
+        widths[index] = width;
+        heights[index] = height;
+        invalidate(index);
+    }
+
+    public boolean remove(Element element) {
+        int index = children.indexOf(element);
+        if (index < 0) return false;
+        children.remove(index);
+        shift(index + 1, index, children.size() - index);
+        invalidate(index);
+        return true;
+    }
+
+    public void clear() {
+        children.clear();
+        invalidate(0);
+    }
+
+    public void setSize(Element element, double width, double height) {
+        int index = children.indexOf(element);
+        if (index < 0) {
+            throw new IllegalArgumentException("Element is not part of this layout");
+        }
+        if (widths[index] == width && heights[index] == height) return;
+        widths[index] = width;
+        heights[index] = height;
+        invalidate(index);
+    }
+
+    public Insets getPadding() {
+        return padding;
+    }
+
+    public void setPadding(Insets padding) {
+        this.padding = padding;
+        invalidate(0);
+    }
+
+    public Alignment getHorizontalAnchor() {
+        return horizontalAnchor;
+    }
+
+    public Alignment getVerticalAnchor() {
+        return verticalAnchor;
+    }
+
+    /**
+     * Sets where the content sits relative to the division's origin.
+     *
+     * @param horizontal START puts the left edge on the origin, END the right edge.
+     * @param vertical   START puts the top edge on the origin, END the bottom edge.
+     */
+    public void setAnchor(Alignment horizontal, Alignment vertical) {
+        this.horizontalAnchor = horizontal;
+        this.verticalAnchor = vertical;
+        invalidate(0);
+    }
+
+    // Width of the laid out content including padding, as of the last layout pass
+    public double getWidth() {
+        return contentWidth + padding.left() + padding.right();
+    }
+
+    public double getHeight() {
+        return contentHeight + padding.top() + padding.bottom();
+    }
+
+    public boolean isDirty() {
+        return firstDirty != CLEAN;
+    }
+
+    /**
+     * Marks the positions of the child at {@code index} and every child after it as stale, and the division dirty.
+     *
+     * @param index The first child whose position may have changed.
+     */
+    public void invalidate(int index) {
+        firstDirty = Math.min(firstDirty, Math.max(0, index));
+        if (division != null) {
+            division.markDirty();
+        }
+    }
+
+    /**
+     * Recomputes stale positions and writes the changed offsets to the elements. Does nothing if nothing changed.
+     * Only does math and marks elements dirty, so it is safe in the division's compute phase.
+     *
+     * @return The number of elements whose offset changed.
+     */
+    public int apply() {
+        if (firstDirty == CLEAN) return 0;
+        int count = children.size();
+        int from = Math.min(arrange(Math.min(firstDirty, count)), count);
+        firstDirty = CLEAN;
+
+        double newShiftX = padding.left() - horizontalAnchor.getFactor() * getWidth();
+        double newShiftY = -padding.top() + verticalAnchor.getFactor() * getHeight();
+        if (newShiftX != shiftX || newShiftY != shiftY) {
+            shiftX = newShiftX;
+            shiftY = newShiftY;
+            from = 0;
+        }
+
+        int changed = 0;
+        for (int i = from; i < count; i++) {
+            Element element = children.get(i);
+            Vector offset = element.getOffset(); // The element's own copy, so writing it in place moves only this one
+            double x = shiftX + centerX[i];
+            double y = shiftY - centerY[i];
+            if (offset.getX() == x && offset.getY() == y) continue;
+            offset.setX(x);
+            offset.setY(y);
+            element.markDirty();
+            changed++;
+        }
+        return changed;
+    }
+
+    /**
+     * Computes {@link #centerX} and {@link #centerY} for the children from {@code from} on,
+     * and updates {@link #contentWidth} and {@link #contentHeight}.
+     *
+     * @param from The first stale child; children before it still have valid positions.
+     * @return The first child whose position may have changed, usually {@code from}, or 0 if the whole layout shifted.
+     */
+    protected abstract int arrange(int from);
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= widths.length) return;
+        int newLength = Math.max(capacity, widths.length * 2);
+        widths = Arrays.copyOf(widths, newLength);
+        heights = Arrays.copyOf(heights, newLength);
+        centerX = Arrays.copyOf(centerX, newLength);
+        centerY = Arrays.copyOf(centerY, newLength);
+    }
+
+    private void shift(int source, int target, int length) {
+        if (length <= 0) return;
+        System.arraycopy(widths, source, widths, target, length);
+        System.arraycopy(heights, source, heights, target, length);
+        System.arraycopy(centerX, source, centerX, target, length);
+        System.arraycopy(centerY, source, centerY, target, length);
+    }
+}
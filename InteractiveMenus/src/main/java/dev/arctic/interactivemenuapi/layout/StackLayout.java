@@ -0,0 +1,85 @@
+package dev.arctic.interactivemenuapi.layout;
+
+/**
+ * Places children one after another along an axis: a row for {@link Axis#HORIZONTAL}, a column for
+ * {@link Axis#VERTICAL}. Children keep their own size on the main axis and are aligned on the cross axis.
+ */
+public class StackLayout extends LayoutContainer {
+
+    private final Axis axis;
+    private double spacing;
+    private Alignment crossAlignment = Alignment.START;
+    private double crossExtent;
+
+    public StackLayout(Axis axis, double spacing) {
+        this.axis = axis;
+        this.spacing = spacing;
+    }
+
+    public static StackLayout row(double spacing) {
+        return new StackLayout(Axis.HORIZONTAL, spacing);
+    }
+
+    public static StackLayout column(double spacing) {
+        return new StackLayout(Axis.VERTICAL, spacing);
+    }
+
+    public Axis getAxis() {
+        return axis;
+    }
+
+    public double getSpacing() {
+        return spacing;
+    }
+
+    public void setSpacing(double spacing) {
+        this.spacing = spacing;
+        invalidate(0);
+    }
+
+    public Alignment getCrossAlignment() {
+        return crossAlignment;
+    }
+
+    public void setCrossAlignment(Alignment crossAlignment) {
+        this.crossAlignment = crossAlignment;
+        invalidate(0);
+    }
+
+    @Override
+    protected int arrange(int from) {
+        boolean horizontal = axis == Axis.HORIZONTAL;
+        double[] mainSizes = horizontal ? widths : heights;
+        double[] crossSizes = horizontal ? heights : widths;
+        double[] mainCenters = horizontal ? centerX : centerY;
+        double[] crossCenters = horizontal ? centerY : centerX;
+        int count = size();
+
+        // The cross extent is a plain max over the hints; only if it changes do aligned children move
+        double cross = 0;
+        for (int i = 0; i < count; i++) {
+            cross = Math.max(cross, crossSizes[i]);
+        }
+        if (cross != crossExtent && crossAlignment != Alignment.START) {
+            from = 0;
+        }
+        crossExtent = cross;
+
+        double position = from == 0 ? 0 : mainCenters[from - 1] + mainSizes[from - 1] / 2 + spacing;
+        for (int i = from; i < count; i++) {
+            mainCenters[i] = position + mainSizes[i] / 2;
+            crossCenters[i] = crossAlignment.getFactor() * (cross - crossSizes[i]) + crossSizes[i] / 2;
+            position += mainSizes[i] + spacing;
+        }
+
+        double main = count == 0 ? 0 : mainCenters[count - 1] + mainSizes[count - 1] / 2;
+        if (horizontal) {
+            contentWidth = main;
+            contentHeight = cross;
+        } else {
+            contentWidth = cross;
+            contentHeight = main;
+        }
+        return from;
+    }
+}
@@ -0,0 +1,28 @@
+package dev.arctic.interactivemenuapi.listeners;
+
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import org.bukkit.Chunk;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+/**
+ * Suspends menus whose anchor chunk unloads and resumes them when it loads again,
+ * so no menu updates or teleports into unloaded chunks.
+ */
+public class MenuChunkListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        MenuScheduler.suspendChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        MenuScheduler.resumeChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+}
@@ -0,0 +1,72 @@
+package dev.arctic.interactivemenuapi.listeners;
+
+import dev.arctic.interactivemenuapi.events.MenuInteractionEvent;
+import dev.arctic.interactivemenuapi.interaction.ClickType;
+import dev.arctic.interactivemenuapi.interaction.InteractionGate;
+import dev.arctic.interactivemenuapi.objects.Element;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.registry.ElementRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Interaction;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.player.PlayerInteractAtEntityEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Resolves clicks on menu {@link Interaction} entities to their {@link Element} through the {@link ElementRegistry}
+ * and dispatches them without scanning menus. The element's own behaviour and its click handlers are called directly;
+ * the global {@link MenuInteractionEvent} is only created when some plugin listens for it.
+ * Every click passes the {@link InteractionGate} first; the event is cancelled even if the gate drops the click.
+ */
+public class MenuInteractionListener implements Listener {
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onInteractEntity(PlayerInteractEntityEvent event) {
+        // The AtEntity variant is fired for the same click, only handle it once
+        if (event instanceof PlayerInteractAtEntityEvent) return;
+        if (!(event.getRightClicked() instanceof Interaction)) return;
+
+        Element element = ElementRegistry.get(event.getRightClicked());
+        if (element == null) return;
+
+        event.setCancelled(true);
+        dispatch(element, event.getPlayer(), ClickType.of(false, event.getPlayer().isSneaking()));
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onAttackEntity(EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof Interaction)) return;
+        if (!(event.getDamager() instanceof Player player)) return;
+
+        Element element = ElementRegistry.get(event.getEntity());
+        if (element == null) return;
+
+        event.setCancelled(true);
+        dispatch(element, player, ClickType.of(true, player.isSneaking()));
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        InteractionGate.forget(event.getPlayer().getUniqueId());
+    }
+
+    // Also called by the VirtualRenderBackend for clicks on client-side entities
+    public static void dispatch(Element element, Player player, ClickType clickType) {
+        if (!InteractionGate.tryAccept(player, element)) return;
+
+        Menu menu = element.getParentMenu();
+        if (menu != null) {
+            menu.setLastInteractionTime(System.currentTimeMillis() / 1000);
+        }
+
+        element.handleClick(player, clickType);
+        if (MenuInteractionEvent.hasListeners()) {
+            Bukkit.getPluginManager().callEvent(new MenuInteractionEvent(menu, element, player, clickType));
+        }
+    }
+}
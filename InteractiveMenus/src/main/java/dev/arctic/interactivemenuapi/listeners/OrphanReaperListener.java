@@ -0,0 +1,18 @@
+package dev.arctic.interactivemenuapi.listeners;
+
+import dev.arctic.interactivemenuapi.orphan.OrphanReaper;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.EntitiesLoadEvent;
+
+/**
+ * Removes orphaned menu entities as soon as the chunk holding them loads.
+ */
+public class OrphanReaperListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        OrphanReaper.reapLoaded(event.getEntities());
+    }
+}
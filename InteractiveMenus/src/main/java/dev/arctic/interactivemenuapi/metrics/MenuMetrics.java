@@ -0,0 +1,276 @@
+package dev.arctic.interactivemenuapi.metrics;
+
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.registry.ElementRegistry;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime counters for the whole library: live objects, entity operations per tick and time spent in the tick loop.
+ *
+ * <p>Counters are {@link LongAdder}s and timings go into fixed-bucket {@link Histogram}s, so recording costs a few
+ * atomic adds and never allocates. Totals accumulate from server start or the last {@link #reset()}.
+ * Live division and element counts and the most expensive menus are computed when read, not on every tick.
+ * Readable from code or with the {@code MenuDebugCommand}.</p>
+ */
+public final class MenuMetrics {
+
+    private static volatile boolean enabled = true;
+
+    //Entity operations
+    private static final LongAdder spawns = new LongAdder();
+    private static final LongAdder teleports = new LongAdder();
+    private static final LongAdder appearanceUpdates = new LongAdder();
+    private static final LongAdder textUpdates = new LongAdder();
+    private static final LongAdder removals = new LongAdder();
+    private static final LongAdder liveEntities = new LongAdder();
+    private static final LongAdder liveVirtualEntities = new LongAdder();
+    private static final LongAdder cleanups = new LongAdder();
+
+    //Per tick
+    private static final Histogram tickNanos = new Histogram();
+    private static final Histogram updateNanos = new Histogram();
+    private static final Histogram timerNanos = new Histogram();
+    private static final Histogram spawnQueueNanos = new Histogram();
+    private static final Histogram cleanupNanos = new Histogram();
+    private static final Histogram teleportsPerTick = new Histogram();
+    private static final Histogram spawnsPerTick = new Histogram();
+    private static long teleportsAtLastTick;
+    private static long spawnsAtLastTick;
+    private static long lastTickTeleports;
+    private static long lastTickSpawns;
+
+    private MenuMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns timing on or off. Entity counters are always kept since they cost next to nothing.
+     *
+     * @param enabled False to skip the System.nanoTime() calls in the tick loop.
+     */
+    public static void setEnabled(boolean enabled) {
+        MenuMetrics.enabled = enabled;
+    }
+
+    // Called by the render backends for every entity operation; spawns and removals are split by backend
+
+    public static void recordSpawn() {
+        spawns.increment();
+        liveEntities.increment();
+    }
+
+    public static void recordTeleport() {
+        teleports.increment();
+    }
+
+    public static void recordAppearanceUpdate() {
+        appearanceUpdates.increment();
+    }
+
+    public static void recordTextUpdate() {
+        textUpdates.increment();
+    }
+
+    public static void recordRemoval() {
+        removals.increment();
+        liveEntities.decrement();
+    }
+
+    public static void recordVirtualSpawn() {
+        spawns.increment();
+        liveVirtualEntities.increment();
+    }
+
+    public static void recordVirtualRemoval() {
+        removals.increment();
+        liveVirtualEntities.decrement();
+    }
+
+    // Called by the MenuScheduler and Menu
+
+    public static void recordUpdateLoop(long nanos) {
+        updateNanos.record(nanos);
+    }
+
+    public static void recordTimers(long nanos) {
+        timerNanos.record(nanos);
+    }
+
+    public static void recordSpawnQueue(long nanos) {
+        spawnQueueNanos.record(nanos);
+    }
+
+    public static void recordCleanup(long nanos) {
+        cleanups.increment();
+        cleanupNanos.record(nanos);
+    }
+
+    /**
+     * Closes the current tick: records its duration and the teleports and spawns issued during it.
+     *
+     * @param nanos Time spent in the tick loop, or a negative value if timing is disabled.
+     */
+    public static void endTick(long nanos) {
+        if (nanos >= 0) {
+            tickNanos.record(nanos);
+        }
+
+        long teleportTotal = teleports.sum();
+        lastTickTeleports = teleportTotal - teleportsAtLastTick;
+        teleportsAtLastTick = teleportTotal;
+        teleportsPerTick.record(lastTickTeleports);
+
+        long spawnTotal = spawns.sum();
+        lastTickSpawns = spawnTotal - spawnsAtLastTick;
+        spawnsAtLastTick = spawnTotal;
+        spawnsPerTick.record(lastTickSpawns);
+    }
+
+    // Live objects
+
+    public static int getLiveMenus() {
+        return MenuScheduler.getMenuCount();
+    }
+
+    public static int getLiveDivisions() {
+        int count = 0;
+        for (Menu menu : MenuScheduler.getMenus()) {
+            count += menu.getDivisions().size();
+        }
+        return count;
+    }
+
+    public static int getLiveElements() {
+        int count = 0;
+        for (Menu menu : MenuScheduler.getMenus()) {
+            for (Division division : menu.getDivisions()) {
+                count += division.getElements().size();
+            }
+        }
+        return count;
+    }
+
+    // Entities spawned through the world backend that have not been released yet, pooled or not
+    public static long getLiveEntities() {
+        return liveEntities.sum();
+    }
+
+    // Entities that exist only on the clients, spawned through the virtual backend and not removed yet
+    public static long getLiveVirtualEntities() {
+        return liveVirtualEntities.sum();
+    }
+
+    // Entities that can currently be clicked or resolved to an element
+    public static int getRegisteredEntities() {
+        return ElementRegistry.size();
+    }
+
+    // Totals
+
+    public static long getSpawns() {
+        return spawns.sum();
+    }
+
+    public static long getTeleports() {
+        return teleports.sum();
+    }
+
+    public static long getAppearanceUpdates() {
+        return appearanceUpdates.sum();
+    }
+
+    public static long getTextUpdates() {
+        return textUpdates.sum();
+    }
+
+    public static long getRemovals() {
+        return removals.sum();
+    }
+
+    public static long getCleanups() {
+        return cleanups.sum();
+    }
+
+    public static long getLastTickTeleports() {
+        return lastTickTeleports;
+    }
+
+    public static long getLastTickSpawns() {
+        return lastTickSpawns;
+    }
+
+    // Histograms
+
+    public static Histogram getTickNanos() {
+        return tickNanos;
+    }
+
+    public static Histogram getUpdateNanos() {
+        return updateNanos;
+    }
+
+    public static Histogram getTimerNanos() {
+        return timerNanos;
+    }
+
+    public static Histogram getSpawnQueueNanos() {
+        return spawnQueueNanos;
+    }
+
+    public static Histogram getCleanupNanos() {
+        return cleanupNanos;
+    }
+
+    public static Histogram getTeleportsPerTick() {
+        return teleportsPerTick;
+    }
+
+    public static Histogram getSpawnsPerTick() {
+        return spawnsPerTick;
+    }
+
+    /**
+     * Returns the live menus with the highest recent update cost.
+     *
+     * @param limit Maximum number of menus to return.
+     * @return Menus sorted by {@link Menu#getAverageUpdateNanos()}, most expensive first.
+     */
+    public static List<Menu> getMostExpensiveMenus(int limit) {
+        List<Menu> menus = new ArrayList<>(MenuScheduler.getMenus());
+        menus.sort(Comparator.comparingLong(Menu::getAverageUpdateNanos).reversed());
+        return menus.subList(0, Math.min(Math.max(limit, 0), menus.size()));
+    }
+
+    /**
+     * Clears every total and histogram. Live counts are not affected.
+     */
+    public static void reset() {
+        spawns.reset();
+        teleports.reset();
+        appearanceUpdates.reset();
+        textUpdates.reset();
+        removals.reset();
+        cleanups.reset();
+        teleportsAtLastTick = 0;
+        spawnsAtLastTick = 0;
+        lastTickTeleports = 0;
+        lastTickSpawns = 0;
+
+        tickNanos.reset();
+        updateNanos.reset();
+        timerNanos.reset();
+        spawnQueueNanos.reset();
+        cleanupNanos.reset();
+        teleportsPerTick.reset();
+        spawnsPerTick.reset();
+    }
+}
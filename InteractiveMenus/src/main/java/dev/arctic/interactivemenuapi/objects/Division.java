@@ -1,55 +1,257 @@
 package dev.arctic.interactivemenuapi.objects;
 
 import dev.arctic.interactivemenuapi.animation.Animation;
+import dev.arctic.interactivemenuapi.animation.AnimationChannel;
+import dev.arctic.interactivemenuapi.animation.AnimationPlayer;
 import dev.arctic.interactivemenuapi.animation.AnimationType;
+import dev.arctic.interactivemenuapi.animation.KeyframeAnimation;
+import dev.arctic.interactivemenuapi.animation.MotionMode;
+import dev.arctic.interactivemenuapi.layout.LayoutContainer;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import dev.arctic.interactivemenuapi.store.ElementStore;
+import dev.arctic.interactivemenuapi.store.SnapshotList;
+import dev.arctic.interactivemenuapi.transform.TransformNode;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Location;
 import org.bukkit.util.Vector;
 
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 @Getter
 @Setter
 public class Division {
 
     protected Menu ownerMenu;
-    protected Location currentLocation;
+    protected final TransformNode transform;
     protected Vector offset;
     protected AnimationType animationType;
     protected double animationStepper;
-    protected List<Element> elements = new CopyOnWriteArrayList<>();
+    protected final SnapshotList<Element> elements = new SnapshotList<>(); // Read lock-free by the tick loop, see SnapshotList
+    protected boolean dirty = true;
+    protected MotionMode motionMode; // null inherits from the owner menu
+    protected int interpolationTicks; // 0 inherits from the owner menu
+    protected final AnimationPlayer animationPlayer = new AnimationPlayer();
+    protected LayoutContainer layout; // Places the elements it holds; null if every offset is set by hand
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean applyPending; // Set by computeTransform() when an element has changes to send
+
+    //Compact storage, null unless enabled with setCompactStorage(true)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private ElementStore store;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private float lastScale = 1f, lastRotation = 0f, lastOpacity = 1f; // Appearance last pushed in compact mode
+
+    // Client-side teleport interpolation is capped by the Display entity metadata
+    private static final int MAX_TELEPORT_DURATION = 59;
 
     public Division(Menu ownerMenu, Location initialLocation, Vector offset, AnimationType animationType, double animationStepper) {
         this.ownerMenu = ownerMenu;
-        this.currentLocation = initialLocation;
+        this.transform = new TransformNode(ownerMenu != null ? ownerMenu.getRootNode() : null);
         this.offset = offset;
         this.animationType = animationType;
         this.animationStepper = animationStepper;
+        if (initialLocation != null) {
+            transform.setWorldTransform(initialLocation);
+        }
+    }
+
+    // A copy of the current world position; changing it does not move the division
+    public Location getCurrentLocation() {
+        return transform.toLocation();
+    }
+
+    public void setCurrentLocation(Location currentLocation) {
+        transform.setWorldTransform(currentLocation);
+    }
+
+    public void setOffset(Vector offset) {
+        this.offset = offset;
+        this.dirty = true;
+    }
+
+    public void setAnimationType(AnimationType animationType) {
+        this.animationType = animationType;
+        this.dirty = true;
+    }
+
+    public void setAnimationStepper(double animationStepper) {
+        this.animationStepper = animationStepper;
+        this.dirty = true;
+    }
+
+    public void setLayout(LayoutContainer layout) {
+        this.layout = layout;
+        if (layout != null) {
+            layout.setDivision(this);
+        }
+        this.dirty = true;
+    }
+
+    public MotionMode getEffectiveMotionMode() {
+        if (motionMode != null) return motionMode;
+        return ownerMenu != null ? ownerMenu.getMotionMode() : MotionMode.SNAP;
+    }
+
+    // Teleport duration in ticks that element displays should use for the current movement
+    public int getTeleportDuration() {
+        if (getEffectiveMotionMode() != MotionMode.INTERPOLATED) return 0;
+
+        int ticks;
+        if (ownerMenu != null && ownerMenu.getActiveInterpolationTicks() >= 0) {
+            ticks = ownerMenu.getActiveInterpolationTicks();
+        } else if (interpolationTicks > 0) {
+            ticks = interpolationTicks;
+        } else {
+            ticks = ownerMenu != null ? ownerMenu.getInterpolationTicks() : 0;
+        }
+        return Math.max(0, Math.min(MAX_TELEPORT_DURATION, ticks));
+    }
+
+    // Call after mutating the offset vector in place
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    // A division with a running keyframe animation needs work on every update
+    public boolean isDirty() {
+        return dirty || animationPlayer.needsUpdate() || (store != null && !store.isSynced(elements));
     }
 
-    public void updateLocation(Location rootMenuLocation) {
-        Location newLocation = rootMenuLocation.clone().add(offset);
+    public void playAnimation(KeyframeAnimation animation) {
+        animationPlayer.play(animation, MenuScheduler.getCurrentTick());
+        this.dirty = true;
+    }
+
+    public void stopAnimation() {
+        animationPlayer.stop();
+        this.dirty = true;
+    }
+
+    // Recomputes the division's world transform from its menu and pushes it to the elements that need it
+    public void updateTransform() {
+        computeTransform();
+        applyTransform();
+    }
+
+    // First half of an update: recomputes the division and its elements without touching any entity,
+    // so menus can be computed in parallel off the main thread
+    public void computeTransform() {
+        if (layout != null) {
+            layout.apply(); // Marks the elements it moved dirty
+        }
+
+        double x = offset.getX();
+        double y = offset.getY();
+        double z = offset.getZ();
+        double scale = 1.0;
+        double rotation = 0.0;
+        double opacity = 1.0;
 
         if (animationType != AnimationType.NONE) {
-            Animation animation = new Animation(animationType, animationStepper);
-            Animation.AnimationResult result = animation.apply();
-            newLocation.add(result.vectorChange());
-            // Additional logic for handling opacity can be implemented here if needed
+            x += Animation.offsetX(animationType, animationStepper);
+            y += Animation.offsetY(animationType, animationStepper);
+            z += Animation.offsetZ(animationType, animationStepper);
+            opacity = Animation.opacity(animationType, animationStepper);
         }
 
-        this.currentLocation = newLocation;
+        if (animationPlayer.advance(MenuScheduler.getCurrentTick())) {
+            x += animationPlayer.get(AnimationChannel.OFFSET_X);
+            y += animationPlayer.get(AnimationChannel.OFFSET_Y);
+            z += animationPlayer.get(AnimationChannel.OFFSET_Z);
+            scale = animationPlayer.get(AnimationChannel.SCALE);
+            rotation = animationPlayer.get(AnimationChannel.ROTATION);
+            opacity *= animationPlayer.get(AnimationChannel.OPACITY);
+        }
 
-        for (Element element : elements) {
-            element.updateLocation(newLocation);
+        transform.setLocal(x, y, z);
+        boolean moved = transform.recompute();
+        this.dirty = false;
+
+        if (store != null) {
+            computeCompact(moved, (float) scale, (float) rotation, (float) opacity);
+            return;
+        }
+
+        // Only the elements whose own offset changed need work if the division itself stayed put
+        SnapshotList.Snapshot<Element> current = elements.snapshot(); // Indexed, so the tick allocates no iterator
+        for (int i = 0, size = current.size(); i < size; i++) {
+            Element element = current.get(i);
+            if ((moved || element.isDirty()) && element.computeTransform()) {
+                applyPending = true;
+            }
+            if (element.computeAppearance((float) scale, (float) rotation, (float) opacity)) {
+                applyPending = true;
+            }
         }
     }
 
+    // Positions come from the store's arrays; elements are only visited for appearance when it changed or elements were added
+    private void computeCompact(boolean moved, float scale, float rotation, float opacity) {
+        boolean rebuilt = store.sync(elements);
+        if (store.compute(transform, moved)) {
+            applyPending = true;
+        }
+        if (!rebuilt && scale == lastScale && rotation == lastRotation && opacity == lastOpacity) return;
+        lastScale = scale;
+        lastRotation = rotation;
+        lastOpacity = opacity;
+        SnapshotList.Snapshot<Element> current = elements.snapshot();
+        for (int i = 0, size = current.size(); i < size; i++) {
+            if (current.get(i).computeAppearance(scale, rotation, opacity)) {
+                applyPending = true;
+            }
+        }
+    }
+
+    /**
+     * Keeps the elements' offsets and world positions in parallel primitive arrays, so a division with many elements
+     * is updated in one pass over the arrays instead of visiting every element object each update.
+     * Appearance set on individual elements is kept until the division's own appearance changes.
+     *
+     * @param compact True to enable compact storage, false to go back to per-element updates.
+     */
+    public void setCompactStorage(boolean compact) {
+        if (compact == (store != null)) return;
+        if (compact) {
+            store = new ElementStore();
+        } else {
+            store.clear();
+            store = null;
+        }
+        markDirty();
+    }
+
+    public boolean isCompactStorage() {
+        return store != null;
+    }
+
+    // Second half of an update, on the main thread: sends the teleports and appearance changes in one pass
+    public void applyTransform() {
+        if (!applyPending) return;
+        applyPending = false;
+        SnapshotList.Snapshot<Element> current = elements.snapshot();
+        for (int i = 0, size = current.size(); i < size; i++) {
+            current.get(i).applyPending();
+        }
+    }
+
+    // Replaces the elements in one snapshot; the list instance itself is kept
+    public void setElements(List<Element> elements) {
+        this.elements.replaceAll(elements);
+    }
+
     public void cleanup() {
         for (Element element : elements) {
             element.cleanup();
         }
         elements.clear();
+        if (layout != null) {
+            layout.clear();
+        }
+        if (store != null) {
+            store.clear();
+        }
     }
 }
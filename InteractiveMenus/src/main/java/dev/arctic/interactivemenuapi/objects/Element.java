@@ -1,56 +1,465 @@
 package dev.arctic.interactivemenuapi.objects;
 
+import dev.arctic.interactivemenuapi.interaction.ClickHandler;
+import dev.arctic.interactivemenuapi.interaction.ClickType;
+import dev.arctic.interactivemenuapi.orphan.EntityTags;
+import dev.arctic.interactivemenuapi.registry.ElementRegistry;
+import dev.arctic.interactivemenuapi.render.RenderBackend;
+import dev.arctic.interactivemenuapi.render.RenderHandle;
+import dev.arctic.interactivemenuapi.render.WorldRenderBackend;
+import dev.arctic.interactivemenuapi.scheduler.SpawnQueue;
+import dev.arctic.interactivemenuapi.store.ElementStore;
+import dev.arctic.interactivemenuapi.text.TextCache;
+import dev.arctic.interactivemenuapi.text.TextStyle;
+import dev.arctic.interactivemenuapi.transform.TransformNode;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Color;
 import org.bukkit.Location;
+import org.bukkit.entity.Display;
 import org.bukkit.entity.Interaction;
+import org.bukkit.entity.Player;
 import org.bukkit.entity.TextDisplay;
 import org.bukkit.util.Vector;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 @Getter
 @Setter
 public abstract class Element {
 
+    private static final Logger LOGGER = Logger.getLogger(Element.class.getName());
+
     protected Menu parentMenu;
     protected Division parentDivision;
-    protected Location location;
+    protected TransformNode transform; // Null while the division's ElementStore holds the position, see getWorldTransform()
     protected Vector offset;
-    protected Interaction interactionEntity;
-    protected TextDisplay textDisplayEntity;
+    protected RenderHandle<Interaction> interactionHandle;
+    protected RenderHandle<TextDisplay> textDisplayHandle;
+    protected boolean dirty;
+    protected String elementFlag;
+    @Setter(AccessLevel.NONE)
+    protected boolean spawned;
+    @Setter(AccessLevel.NONE)
+    protected boolean removed;
+
+    //Last appearance sent to the backend
+    @Setter(AccessLevel.NONE)
+    protected float scale = 1f;
+    @Setter(AccessLevel.NONE)
+    protected float rotation = 0f;
+    @Setter(AccessLevel.NONE)
+    protected float opacity = 1f;
+
+    //Local displacement from the element's own animations, on top of the offset
+    @Setter(AccessLevel.NONE)
+    protected double animationOffsetX, animationOffsetY, animationOffsetZ;
+
+    //Text, as last sent to the text display
+    @Setter(AccessLevel.NONE)
+    protected Component text = Component.empty();
+    @Setter(AccessLevel.NONE)
+    protected TextStyle textStyle = TextStyle.DEFAULT;
+
+    //Compact storage, while the division keeps element positions in an ElementStore
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private ElementStore store;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private int storeIndex = -1;
+
+    //Click callbacks, created on the first addClickHandler() so elements without handlers stay small
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private List<ClickHandler> clickHandlers;
+
+    //Changes found by computeTransform() and computeAppearance() that applyPending() has not sent yet
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean teleportPending;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean appearancePending;
 
     public Element(Menu parentMenu, Division parentDivision, Vector offset) {
         this.parentMenu = parentMenu;
         this.parentDivision = parentDivision;
-        this.offset = offset;
-        this.location = parentDivision.getCurrentLocation().clone().add(offset);
+        this.offset = offset.clone(); // Own copy, so elements built from one vector never move together
+        this.transform = new TransformNode(parentDivision.getTransform());
+        transform.setLocal(offset.getX(), offset.getY(), offset.getZ());
+        transform.recompute();
+        requestSpawn();
+    }
+
+    // Spawns now, queues on the SpawnQueue if the menu defers spawning, or waits if the menu is culled or suspended
+    public void requestSpawn() {
+        if (spawned || removed) return;
+        if (parentMenu != null && parentMenu.isHidden()) return;
+
+        if (parentMenu != null && parentMenu.isDeferSpawning()) {
+            SpawnQueue.enqueue(this);
+        } else {
+            spawn();
+        }
+    }
+
+    // Spawns the element's entities at its current transform; does nothing if already spawned, culled or cleaned up
+    public void spawn() {
+        if (spawned || removed) return;
+        if (parentMenu != null && parentMenu.isHidden()) return;
+        spawned = true;
         initializeEntities();
+        if (parentMenu != null) {
+            parentMenu.showToViewers(this);
+        }
+        if (text != Component.empty()) {
+            sendText();
+        }
+        if (!textStyle.equals(TextStyle.DEFAULT)) {
+            sendTextStyle();
+        }
+        if (scale != 1f || rotation != 0f || opacity != 1f) {
+            sendAppearance();
+        }
+    }
+
+    // Number of entities spawn() creates, used to budget the SpawnQueue
+    public int getEntityCount() {
+        return hasInteraction() ? 2 : 1;
+    }
+
+    // Elements that are never clicked skip their Interaction entity
+    protected boolean hasInteraction() {
+        return true;
     }
 
     protected void initializeEntities() {
-        this.interactionEntity = location.getWorld().spawn(location, Interaction.class, interaction -> {
-            interaction.setPersistent(false);
-        });
+        RenderBackend backend = getRenderBackend();
+        Location location = getWorldTransform().toLocation();
+        boolean visibleByDefault = isVisibleByDefault();
+        if (hasInteraction()) {
+            this.interactionHandle = backend.spawn(location, Interaction.class, visibleByDefault, interaction -> {
+                EntityTags.tag(interaction, parentMenu);
+                interaction.setPersistent(false);
+            });
+        }
 
-        this.textDisplayEntity = location.getWorld().spawn(location, TextDisplay.class, textDisplay -> {
+        this.textDisplayHandle = backend.spawn(location, TextDisplay.class, visibleByDefault, textDisplay -> {
+            EntityTags.tag(textDisplay, parentMenu);
             textDisplay.setPersistent(false);
         });
+
+        ElementRegistry.register(interactionHandle, this);
+        ElementRegistry.register(textDisplayHandle, this);
+    }
+
+    // Private menus spawn hidden and are then shown to their viewers only
+    protected boolean isVisibleByDefault() {
+        return parentMenu == null || parentMenu.getVisibilityMode() == VisibilityMode.PUBLIC;
+    }
+
+    // Visits every entity the element currently has; subclasses with additional entities override this and call super
+    public void forEachHandle(Consumer<RenderHandle<?>> action) {
+        if (interactionHandle != null) action.accept(interactionHandle);
+        if (textDisplayHandle != null) action.accept(textDisplayHandle);
+    }
+
+    public RenderBackend getRenderBackend() {
+        return parentMenu != null ? parentMenu.getRenderBackend() : WorldRenderBackend.INSTANCE;
+    }
+
+    // Null if the element has no interaction or is not rendered with real world entities
+    public Interaction getInteractionEntity() {
+        return interactionHandle == null ? null : interactionHandle.getEntity();
+    }
+
+    public TextDisplay getTextDisplayEntity() {
+        return textDisplayHandle == null ? null : textDisplayHandle.getEntity();
+    }
+
+    public void setOffset(Vector offset) {
+        this.offset = offset.clone();
+        this.dirty = true;
+        if (store != null) {
+            pushLocal();
+        }
+        if (parentDivision != null) {
+            parentDivision.markDirty();
+        }
+    }
+
+    // Call after mutating the offset vector in place
+    public void markDirty() {
+        this.dirty = true;
+        if (store != null) {
+            pushLocal();
+        }
+        if (parentDivision != null) {
+            parentDivision.markDirty();
+        }
+    }
+
+    // A copy of the current world position; changing it does not move the element
+    public Location getLocation() {
+        return getWorldTransform().toLocation();
     }
 
-    public void updateLocation(Location divisionLocation) {
-        Location newLocation = divisionLocation.clone().add(offset);
-        interactionEntity.teleport(newLocation);
-        textDisplayEntity.teleport(newLocation);
+    // The node to spawn or teleport at: the element's own, or in compact storage its store slot filled into a shared node
+    protected TransformNode getWorldTransform() {
+        return store != null ? store.fill(storeIndex, parentDivision.getTransform()) : transform;
+    }
+
+    // Recomputes the world transform from the division and teleports only if it changed
+    public void updateTransform() {
+        computeTransform();
+        applyTeleport();
+    }
+
+    // First half of an update: pure math on the transform, no entity access, so it may run off the main thread
+    public boolean computeTransform() {
+        if (store != null) {
+            pushLocal();
+            this.dirty = false;
+            return store.computeOne(storeIndex, parentDivision.getTransform());
+        }
+        transform.setLocal(
+                offset.getX() + animationOffsetX,
+                offset.getY() + animationOffsetY,
+                offset.getZ() + animationOffsetZ);
+        this.dirty = false;
+        if (transform.recompute()) {
+            teleportPending = true;
+        }
+        return teleportPending;
+    }
+
+    /**
+     * Hands the element's position to a division's ElementStore, which keeps it from then on; the element drops its
+     * own transform node. Called by the store when the division adds the element to its arrays.
+     */
+    public void attachToStore(ElementStore store, int index) {
+        store.seed(index,
+                offset.getX() + animationOffsetX,
+                offset.getY() + animationOffsetY,
+                offset.getZ() + animationOffsetZ,
+                transform.getWorldX(), transform.getWorldY(), transform.getWorldZ(), teleportPending);
+        this.store = store;
+        this.storeIndex = index;
+        this.transform = null;
+        this.teleportPending = false;
+    }
+
+    // Takes the position back from the store into an own transform node, e.g. when the division leaves compact mode
+    public void detachFromStore() {
+        if (store == null) return;
+        TransformNode parent = parentDivision.getTransform();
+        TransformNode node = new TransformNode(parent);
+        node.setWorldTransform(parent.getWorld(), store.getWorldX(storeIndex), store.getWorldY(storeIndex),
+                store.getWorldZ(storeIndex), parent.getWorldYaw(), parent.getWorldPitch());
+        node.setLocal(
+                offset.getX() + animationOffsetX,
+                offset.getY() + animationOffsetY,
+                offset.getZ() + animationOffsetZ);
+        // A teleport the store had pending, or a parent move it has not computed yet
+        teleportPending = store.takeMoved(storeIndex) | node.recompute();
+        this.transform = node;
+        this.store = null;
+        this.storeIndex = -1;
+    }
+
+    // Called by the store when it rebuilds its arrays and the element keeps its position under a new index
+    public void moveInStore(int index) {
+        this.storeIndex = index;
+    }
+
+    // The element's index in the given store, or -1 if the store does not hold it
+    public int getStoreIndex(ElementStore store) {
+        return this.store == store ? storeIndex : -1;
+    }
 
-        this.location = newLocation;
+    private void pushLocal() {
+        store.setLocal(storeIndex,
+                offset.getX() + animationOffsetX,
+                offset.getY() + animationOffsetY,
+                offset.getZ() + animationOffsetZ);
+    }
+
+    // Records the appearance to send; false if nothing changed
+    public boolean computeAppearance(float scale, float rotation, float opacity) {
+        if (scale == this.scale && rotation == this.rotation && opacity == this.opacity) return false;
+        this.scale = scale;
+        this.rotation = rotation;
+        this.opacity = opacity;
+        appearancePending = true;
+        return true;
+    }
+
+    // Second half of an update, on the main thread: sends whatever the compute methods found changed
+    public void applyPending() {
+        applyTeleport();
+        if (appearancePending) {
+            appearancePending = false;
+            sendAppearance();
+        }
+    }
+
+    private void applyTeleport() {
+        if (store != null ? !store.takeMoved(storeIndex) : !teleportPending) return;
+        teleportPending = false;
+
+        TransformNode target = getWorldTransform();
+        if (interactionHandle != null) {
+            interactionHandle.teleport(target, 0);
+        }
+        if (textDisplayHandle != null) {
+            textDisplayHandle.teleport(target, getTeleportDuration());
+        }
+        onTransformChanged();
+    }
+
+    // Hook for subclasses that own additional entities
+    protected void onTransformChanged() {
+    }
+
+    // Sends scale, rotation and opacity to the displays, only when one of them changed
+    public void applyAppearance(float scale, float rotation, float opacity) {
+        if (!computeAppearance(scale, rotation, opacity)) return;
+        appearancePending = false;
+        sendAppearance();
+    }
+
+    private void sendAppearance() {
+        if (textDisplayHandle != null) {
+            textDisplayHandle.getBackend().setAppearance(textDisplayHandle, scale, rotation, opacity, getTeleportDuration());
+        }
+        onAppearanceChanged(scale, rotation, opacity);
+    }
+
+    // Hook for subclasses that own additional displays
+    protected void onAppearanceChanged(float scale, float rotation, float opacity) {
+    }
+
+    // Sends the text only if it differs from what the display already shows
+    public void setText(Component text) {
+        if (text == null) text = Component.empty();
+        if (text == this.text || text.equals(this.text)) return;
+        this.text = text;
+        sendText();
+    }
+
+    // MiniMessage markup, parsed through the TextCache
+    public void setText(String miniMessage) {
+        setText(TextCache.miniMessage(miniMessage));
+    }
+
+    public void setTextStyle(TextStyle textStyle) {
+        if (textStyle == null) textStyle = TextStyle.DEFAULT;
+        if (textStyle.equals(this.textStyle)) return;
+        this.textStyle = textStyle;
+        sendTextStyle();
+    }
+
+    public void setTextAlignment(TextDisplay.TextAlignment alignment) {
+        setTextStyle(textStyle.withAlignment(alignment));
+    }
+
+    public void setTextBackground(Color background) {
+        setTextStyle(textStyle.withBackground(background));
+    }
+
+    public void setLineWidth(int lineWidth) {
+        setTextStyle(textStyle.withLineWidth(lineWidth));
+    }
+
+    public void setBillboard(Display.Billboard billboard) {
+        setTextStyle(textStyle.withBillboard(billboard));
+    }
+
+    private void sendText() {
+        if (textDisplayHandle != null) {
+            textDisplayHandle.getBackend().setText(textDisplayHandle, text);
+        }
+    }
+
+    // Subclasses with additional displays override this to pass the billboard on
+    protected void sendTextStyle() {
+        if (textDisplayHandle != null) {
+            textDisplayHandle.getBackend().setTextStyle(textDisplayHandle, textStyle);
+        }
+    }
+
+    // Lets the client interpolate display movement instead of snapping to each server teleport
+    protected int getTeleportDuration() {
+        return parentDivision == null ? 0 : parentDivision.getTeleportDuration();
+    }
+
+    // Removes the entities but keeps the element's state so it can be spawned again
+    public void despawn() {
+        if (!spawned) return;
+        spawned = false;
+        destroyEntities();
     }
 
     public void cleanup() {
-        if (interactionEntity != null && !interactionEntity.isDead()) {
-            interactionEntity.remove();
+        removed = true;
+        spawned = false;
+        destroyEntities();
+    }
+
+    // Subclasses with additional entities override this and call super
+    protected void destroyEntities() {
+        // Pooled entities are reused by other menus, so viewers must not keep seeing them
+        if (parentMenu != null) {
+            parentMenu.hideFromViewers(this);
         }
-        if (textDisplayEntity != null && !textDisplayEntity.isDead()) {
-            textDisplayEntity.remove();
+        if (interactionHandle != null) {
+            ElementRegistry.unregister(interactionHandle);
+            interactionHandle.remove();
+            interactionHandle = null;
         }
+        if (textDisplayHandle != null) {
+            ElementRegistry.unregister(textDisplayHandle);
+            textDisplayHandle.remove();
+            textDisplayHandle = null;
+        }
+    }
+
+    public void addClickHandler(ClickHandler handler) {
+        if (clickHandlers == null) {
+            clickHandlers = new CopyOnWriteArrayList<>();
+        }
+        clickHandlers.add(handler);
+    }
+
+    public void removeClickHandler(ClickHandler handler) {
+        if (clickHandlers != null) {
+            clickHandlers.remove(handler);
+        }
+    }
+
+    public boolean hasClickHandlers() {
+        return clickHandlers != null && !clickHandlers.isEmpty();
+    }
+
+    // Called by the MenuInteractionListener with the element resolved from the clicked entity
+    public void handleClick(Player player, ClickType clickType) {
+        onInteract(player, clickType);
+        if (clickHandlers == null) return;
+        for (ClickHandler handler : clickHandlers) {
+            // One broken handler must not keep the others from running
+            try {
+                handler.onClick(player, clickType);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Click handler threw an exception", e);
+            }
+        }
+    }
+
+    // The element's own click behaviour; subclasses that need the player or click type override this instead
+    protected void onInteract(Player player, ClickType clickType) {
+        onInteract();
     }
 
     public abstract void onInteract();
@@ -1,30 +1,47 @@
 package dev.arctic.interactivemenuapi.objects;
 
+import dev.arctic.interactivemenuapi.animation.MotionMode;
+import dev.arctic.interactivemenuapi.interaction.TokenBucket;
+import dev.arctic.interactivemenuapi.interfaces.IMenu;
+import dev.arctic.interactivemenuapi.metrics.MenuMetrics;
+import dev.arctic.interactivemenuapi.orphan.EntityTags;
+import dev.arctic.interactivemenuapi.registry.MenuSpatialIndex;
+import dev.arctic.interactivemenuapi.render.RenderBackend;
+import dev.arctic.interactivemenuapi.render.WorldRenderBackend;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import dev.arctic.interactivemenuapi.scheduler.TimingWheel;
+import dev.arctic.interactivemenuapi.store.SnapshotList;
+import dev.arctic.interactivemenuapi.transform.TransformNode;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Interaction;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 @Getter
 @Setter
-public class Menu {
+public class Menu implements IMenu {
 
     //Objects
     protected Player owner;
     protected Interaction anchorEntity;
-    protected BukkitTask updateTask;
     private Plugin plugin;
-    protected List<Division> divisions = new CopyOnWriteArrayList<>();
-    protected List<Object> objectStorage = new CopyOnWriteArrayList<>();
+    private RenderBackend renderBackend = WorldRenderBackend.INSTANCE;
+    protected final SnapshotList<Division> divisions = new SnapshotList<>(); // Read lock-free by the tick loop, see SnapshotList
+    protected final SnapshotList<Object> objectStorage = new SnapshotList<>();
 
     //Data
     protected UUID menuUUID;
@@ -34,8 +51,57 @@ public class Menu {
     private int timeoutSeconds;
     private long lastInteractionTime;
     private boolean doCleanup;
+    private boolean deferSpawning; // Elements queue their spawns on the SpawnQueue instead of spawning in the constructor
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final TimingWheel.Timeout idleTimeout = new TimingWheel.Timeout(this::onIdleTimeout);
+
+    //Motion
+    private MotionMode motionMode = MotionMode.SNAP;
+    private int interpolationTicks = MenuScheduler.UPDATE_INTERVAL;
+    @Setter(AccessLevel.NONE)
+    private int activeInterpolationTicks = -1;
+
+    //Visibility
+    @Setter(AccessLevel.NONE)
+    private VisibilityMode visibilityMode = VisibilityMode.PUBLIC;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final Set<UUID> viewers = new LinkedHashSet<>();
+
+    //Culling
+    private double viewDistance = 48.0; // 0 or less disables culling
+    @Setter(AccessLevel.NONE)
+    private boolean culled;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final Location viewerScratch = new Location(null, 0, 0, 0);
+
+    // Extra distance before a visible menu is culled, so a viewer on the edge does not make it flicker
+    private static final double CULL_HYSTERESIS = 4.0;
+
+    //Interaction, limits all viewers' clicks together through the InteractionGate
+    @Setter(AccessLevel.NONE)
+    private final TokenBucket clickBucket = new TokenBucket();
+
+    //Chunk lifecycle
+    @Setter(AccessLevel.NONE)
+    private boolean suspended;
+
+    //Metrics, measured by the MenuScheduler around update()
+    @Setter(AccessLevel.NONE)
+    private long lastUpdateNanos;
+    @Setter(AccessLevel.NONE)
+    private long averageUpdateNanos; // Moving average over roughly the last 8 updates
+    @Setter(AccessLevel.NONE)
+    private long maxUpdateNanos;
+
+    //Transform
+    protected final TransformNode rootNode = new TransformNode(null);
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final Location anchorScratch = new Location(null, 0, 0, 0);
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean anchorDirty = true;
 
     public Menu (Location rootLocation, int timeoutSeconds) {
+        this.menuUUID = UUID.randomUUID();
         this.rootLocation = rootLocation;
         this.timeoutSeconds = timeoutSeconds;
         this.lastInteractionTime = System.currentTimeMillis() / 1000;
@@ -45,54 +111,395 @@ public class Menu {
 
     public void initializeMenu() {
         createAnchor(new Vector(0, 0, 0));
-        startRunnableUpdateGUI();
-        startCleanupTask();
+        readRootTransform(rootLocation);
+        MenuScheduler.register(this);
+        EntityTags.tag(anchorEntity, this); // After register, which may start the scheduler and set the plugin
+        armIdleTimeout();
     }
 
-    protected void createAnchor(Vector spawnOffset) {
+    public void createAnchor(Vector spawnOffset) {
         if (rootLocation.getWorld() == null) return;
         anchorEntity = rootLocation.getWorld().spawn(rootLocation.add(spawnOffset), Interaction.class, interaction -> {
+            interaction.setPersistent(false); // Menus do not survive a restart, so neither should their anchor
             interaction.setInteractionWidth(0f);
             interaction.setInteractionHeight(0f);
             interaction.setResponsive(false);
         });
     }
 
-    private boolean isTimeoutExceeded() {
+    public boolean isTimeoutExceeded() {
         return (System.currentTimeMillis() / 1000 - lastInteractionTime) >= timeoutSeconds;
     }
 
-    protected void updateAnchorLocation() {
+    public void setDoCleanup(boolean doCleanup) {
+        this.doCleanup = doCleanup;
+        armIdleTimeout();
+    }
+
+    public void setTimeoutSeconds(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+        armIdleTimeout();
+    }
+
+    // Interactions only bump lastInteractionTime; the timeout re-arms itself for the remainder when it fires early
+    protected void armIdleTimeout() {
+        if (!doCleanup || !MenuScheduler.isRegistered(this)) {
+            idleTimeout.cancel();
+            return;
+        }
+        long remainingSeconds = lastInteractionTime + timeoutSeconds - System.currentTimeMillis() / 1000;
+        MenuScheduler.getTimingWheel(this).schedule(idleTimeout, remainingSeconds * 20L);
+    }
+
+    private void onIdleTimeout() {
+        if (isTimeoutExceeded()) {
+            cleanup();
+        } else {
+            armIdleTimeout();
+        }
+    }
+
+    public void updateAnchorLocation() {
         // To be overridden by child classes for specific rotation logic
     }
 
-    protected void updateMenuLocation() {
+    public void updateMenuLocation() {
+        readAnchorTransform();
+        computeTransforms();
+        applyTransforms();
+    }
+
+    // Main thread: snapshots the anchor position into the root node for computeTransforms()
+    public void readAnchorTransform() {
+        Location anchorLocation = readAnchor();
+        long previousVersion = rootNode.getVersion();
+        readRootTransform(anchorLocation);
+        if (rootNode.getVersion() != previousVersion) {
+            anchorDirty = true;
+            MenuSpatialIndex.update(this); // Only touches the index when the anchor crossed into another chunk
+        }
+    }
+
+    // Transform math for every division and element; touches no entity, so the scheduler may run it off the main thread
+    public void computeTransforms() {
+        boolean anchorMoved = anchorDirty;
+        anchorDirty = false;
+        SnapshotList.Snapshot<Division> current = divisions.snapshot(); // Indexed, so the tick allocates no iterator
+        for (int i = 0, size = current.size(); i < size; i++) {
+            Division division = current.get(i);
+            if (anchorMoved || division.isDirty()) {
+                division.computeTransform();
+            }
+        }
+    }
+
+    // Main thread: sends the teleports and appearance changes found by computeTransforms()
+    public void applyTransforms() {
+        SnapshotList.Snapshot<Division> current = divisions.snapshot();
+        for (int i = 0, size = current.size(); i < size; i++) {
+            current.get(i).applyTransform();
+        }
+    }
+
+    // The anchor is read into a reused Location, so a static menu allocates nothing here
+    private Location readAnchor() {
+        return anchorEntity != null ? anchorEntity.getLocation(anchorScratch) : rootLocation;
+    }
+
+    private void readRootTransform(Location location) {
+        rootNode.setWorld(location.getWorld());
+        rootNode.setLocal(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
+        rootNode.recompute();
+    }
+
+    // Moves the whole menu with a single teleport per entity; in INTERPOLATED mode the client animates it over durationTicks
+    public void moveTo(Location target, int durationTicks) {
+        if (anchorEntity == null) return;
+        if (MenuScheduler.isFolia()) {
+            // Folia only allows async teleports; the elements follow on the anchor's region once it has arrived
+            anchorEntity.teleportAsync(target).thenRun(() -> anchorEntity.getScheduler()
+                    .run(MenuScheduler.getPlugin(), task -> followAnchor(durationTicks), null));
+            return;
+        }
+        anchorEntity.teleport(target);
+        followAnchor(durationTicks);
+    }
+
+    private void followAnchor(int durationTicks) {
+        activeInterpolationTicks = durationTicks;
+        try {
+            updateMenuLocation();
+        } finally {
+            activeInterpolationTicks = -1;
+        }
+    }
+
+    // Forces every division and element to be recomputed on the next update
+    public void markDirty() {
+        anchorDirty = true;
+        rootNode.invalidate();
+    }
+
+    // Called by the MenuScheduler every UPDATE_INTERVAL ticks; suspended menus do nothing
+    public void update() {
+        if (!prepareUpdate()) return;
+        computeTransforms();
+        applyTransforms();
+    }
+
+    // The main thread part before the transforms are computed; false if the menu is culled and needs no update
+    public boolean prepareUpdate() {
+        if (suspended) return false;
+        if (anchorEntity != null && !anchorEntity.isValid()) {
+            // The anchor went away without a chunk event; wait for the chunk if it is gone, else rebuild right away
+            suspend();
+            if (isAnchorChunkLoaded()) {
+                resume();
+            }
+            return false;
+        }
+        updateAnchorLocation();
+        if (!updateCulling()) return false;
+        readAnchorTransform();
+        return true;
+    }
+
+    public void recordUpdateNanos(long nanos) {
+        lastUpdateNanos = nanos;
+        averageUpdateNanos += (nanos - averageUpdateNanos) >> 3;
+        maxUpdateNanos = Math.max(maxUpdateNanos, nanos);
+    }
+
+    // Menus built to spawn on view start culled and spawn nothing until a viewer comes in range
+    public void setSpawnOnView(boolean spawnOnView) {
+        if (spawnOnView) {
+            culled = true;
+            deferSpawning = true;
+        }
+    }
+
+    // Returns true if the menu is visible and should keep updating
+    protected boolean updateCulling() {
+        if (viewDistance <= 0) {
+            if (culled) uncull();
+            return true;
+        }
+
+        double range = culled ? viewDistance : viewDistance + CULL_HYSTERESIS;
+        boolean inRange = hasViewerInRange(range);
+        if (inRange && culled) {
+            uncull();
+        } else if (!inRange && !culled) {
+            cull();
+        }
+        return !culled;
+    }
+
+    protected boolean hasViewerInRange(double range) {
+        if (owner == null && viewers.isEmpty()) return true; // Nobody to measure against, always visible
+        if (owner != null && isInRange(owner, range)) return true;
+        for (UUID viewerId : viewers) {
+            Player viewer = Bukkit.getPlayer(viewerId);
+            if (viewer != null && isInRange(viewer, range)) return true;
+        }
+        return false;
+    }
+
+    protected boolean isInRange(Player viewer, double range) {
+        if (!viewer.isOnline()) return false;
+
+        Location anchorLocation = readAnchor();
+        Location viewerLocation = viewer.getLocation(viewerScratch);
+        if (viewerLocation.getWorld() != anchorLocation.getWorld()) return false;
+
+        double dx = viewerLocation.getX() - anchorLocation.getX();
+        double dy = viewerLocation.getY() - anchorLocation.getY();
+        double dz = viewerLocation.getZ() - anchorLocation.getZ();
+        return dx * dx + dy * dy + dz * dz <= range * range;
+    }
+
+    // Switches every element between public and viewer-only visibility in one pass
+    public void setVisibilityMode(VisibilityMode visibilityMode) {
+        if (this.visibilityMode == visibilityMode) return;
+        this.visibilityMode = visibilityMode;
+
+        boolean visibleByDefault = visibilityMode == VisibilityMode.PUBLIC;
+        List<Player> viewerPlayers = getViewerPlayers();
         for (Division division : divisions) {
-            division.updateLocation(anchorEntity.getLocation());
+            for (Element element : division.getElements()) {
+                element.forEachHandle(handle -> {
+                    handle.getBackend().setVisibleByDefault(handle, visibleByDefault);
+                    for (Player viewer : viewerPlayers) {
+                        handle.getBackend().setViewerVisible(handle, viewer, !visibleByDefault);
+                    }
+                });
+            }
+        }
+    }
+
+    public Set<UUID> getViewers() {
+        return Collections.unmodifiableSet(viewers);
+    }
+
+    public void addViewer(Player viewer) {
+        addViewers(List.of(viewer));
+    }
+
+    public void removeViewer(Player viewer) {
+        removeViewers(List.of(viewer));
+    }
+
+    // Adds all viewers and updates every element once for the whole batch
+    public void addViewers(Collection<? extends Player> newViewers) {
+        List<Player> added = new ArrayList<>();
+        for (Player viewer : newViewers) {
+            if (viewers.add(viewer.getUniqueId())) {
+                added.add(viewer);
+            }
+        }
+        setViewersVisible(added, true);
+    }
+
+    public void removeViewers(Collection<? extends Player> oldViewers) {
+        List<Player> removed = new ArrayList<>();
+        for (Player viewer : oldViewers) {
+            if (viewers.remove(viewer.getUniqueId())) {
+                removed.add(viewer);
+            }
+        }
+        setViewersVisible(removed, false);
+    }
+
+    // Owner plus every online member of the viewer set
+    public List<Player> getViewerPlayers() {
+        List<Player> players = new ArrayList<>(viewers.size() + 1);
+        if (owner != null) {
+            players.add(owner);
+        }
+        for (UUID viewerId : viewers) {
+            Player viewer = Bukkit.getPlayer(viewerId);
+            if (viewer != null && viewer != owner) {
+                players.add(viewer);
+            }
+        }
+        return players;
+    }
+
+    private void setViewersVisible(List<Player> players, boolean visible) {
+        if (players.isEmpty() || visibilityMode != VisibilityMode.VIEWERS) return;
+        for (Division division : divisions) {
+            for (Element element : division.getElements()) {
+                setVisible(element, players, visible);
+            }
+        }
+    }
+
+    // Called when an element spawns in a viewer-only menu
+    void showToViewers(Element element) {
+        if (visibilityMode != VisibilityMode.VIEWERS) return;
+        setVisible(element, getViewerPlayers(), true);
+    }
+
+    // Called before an element's entities are removed or returned to the pool
+    void hideFromViewers(Element element) {
+        if (visibilityMode != VisibilityMode.VIEWERS) return;
+        setVisible(element, getViewerPlayers(), false);
+    }
+
+    private static void setVisible(Element element, List<Player> players, boolean visible) {
+        element.forEachHandle(handle -> {
+            for (Player viewer : players) {
+                handle.getBackend().setViewerVisible(handle, viewer, visible);
+            }
+        });
+    }
+
+    // Despawns every element but keeps the menu's state in memory
+    protected void cull() {
+        culled = true;
+        despawnElements();
+    }
+
+    protected void uncull() {
+        culled = false;
+        respawnElements();
+    }
+
+    // Culled or suspended: elements keep their state but must not have entities
+    public boolean isHidden() {
+        return culled || suspended;
+    }
+
+    /**
+     * Detaches the menu from the world when its anchor chunk unloads: element entities and the anchor are removed,
+     * updates stop, and everything else is kept in memory until {@link #resume()}.
+     */
+    public void suspend() {
+        if (suspended) return;
+        suspended = true;
+        rootLocation = rootNode.toLocation(); // Where the anchor was, to put it back on resume
+        // Before the anchor goes: on Folia removing it retires the ticker, which must already be parked by then
+        MenuScheduler.suspend(this);
+        despawnElements();
+        if (anchorEntity != null) {
+            if (anchorEntity.isValid()) {
+                anchorEntity.remove();
+            }
+            anchorEntity = null;
+        }
+    }
+
+    // Recreates the anchor and the element entities once the anchor chunk is loaded again
+    public void resume() {
+        if (!suspended) return;
+        suspended = false;
+        createAnchor(new Vector(0, 0, 0));
+        EntityTags.tag(anchorEntity, this);
+        MenuScheduler.resume(this);
+        armIdleTimeout();
+        if (!culled) {
+            respawnElements();
         }
     }
 
-    protected void startRunnableUpdateGUI() {
-        updateTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                updateAnchorLocation();
-                updateMenuLocation();
+    public int getChunkX() {
+        return (int) Math.floor(rootNode.getWorldX()) >> 4;
+    }
+
+    public int getChunkZ() {
+        return (int) Math.floor(rootNode.getWorldZ()) >> 4;
+    }
+
+    private boolean isAnchorChunkLoaded() {
+        World world = rootNode.getWorld();
+        return world != null && world.isChunkLoaded(getChunkX(), getChunkZ());
+    }
+
+    private void despawnElements() {
+        for (Division division : divisions) {
+            for (Element element : division.getElements()) {
+                element.despawn();
             }
-        }.runTaskTimer(plugin, 0L, 5L); // Update every 5 ticks
-    }
-
-    protected void startCleanupTask() {
-        if (!doCleanup) return;
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (isTimeoutExceeded()) {
-                    cleanup();
-                    this.cancel();
-                }
+        }
+    }
+
+    private void respawnElements() {
+        markDirty();
+        updateMenuLocation();
+        for (Division division : divisions) {
+            for (Element element : division.getElements()) {
+                element.requestSpawn();
             }
-        }.runTaskTimer(plugin, 0L, 20L); // Check every second
+        }
+    }
+
+    // Replaces the divisions in one snapshot; the list instance itself is kept
+    public void setDivisions(List<Division> divisions) {
+        this.divisions.replaceAll(divisions);
+    }
+
+    public void setObjectStorage(List<Object> objectStorage) {
+        this.objectStorage.replaceAll(objectStorage);
     }
 
     public void clearMenu() {
@@ -103,13 +510,18 @@ public class Menu {
     }
 
     public void cleanup() {
+        long start = MenuMetrics.isEnabled() ? System.nanoTime() : -1L;
         clearMenu(); // Clear all elements first
-        try {
-            anchorEntity.remove();
-        } catch (Exception e) {
+        if (anchorEntity != null) {
+            try {
+                anchorEntity.remove();
+            } catch (Exception e) {
+            }
         }
-        if (updateTask != null) {
-            updateTask.cancel();
+        idleTimeout.cancel();
+        MenuScheduler.unregister(this);
+        if (start >= 0) {
+            MenuMetrics.recordCleanup(System.nanoTime() - start);
         }
     }
 }
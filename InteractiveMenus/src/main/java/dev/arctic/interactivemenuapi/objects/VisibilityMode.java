@@ -0,0 +1,6 @@
+package dev.arctic.interactivemenuapi.objects;
+
+public enum VisibilityMode {
+    PUBLIC, // Visible to every player in tracking range
+    VIEWERS // Visible only to the owner and the menu's viewer set
+}
@@ -3,25 +3,82 @@ package dev.arctic.interactivemenuapi.objects.elements;
 import dev.arctic.interactivemenuapi.objects.Division;
 import dev.arctic.interactivemenuapi.objects.Element;
 import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.orphan.EntityTags;
+import dev.arctic.interactivemenuapi.render.RenderHandle;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
 import org.bukkit.entity.ItemDisplay;
 
+import java.util.function.Consumer;
+
 public class DisplayElement extends Element {
 
     private ItemStack displayItem;
+    private RenderHandle<ItemDisplay> itemDisplayHandle;
 
     public DisplayElement(Menu parentMenu, Division parentDivision, Vector offset, ItemStack displayItem) {
         super(parentMenu, parentDivision, offset);
         this.displayItem = displayItem;
-        initializeDisplayItem();
+
+        // When spawned immediately the super constructor ran before displayItem was assigned
+        if (itemDisplayHandle != null) {
+            itemDisplayHandle.getBackend().setItem(itemDisplayHandle, displayItem);
+        }
     }
 
-    private void initializeDisplayItem() {
-        ItemDisplay itemDisplay = location.getWorld().spawn(location, ItemDisplay.class, item -> {
-            item.setItemStack(displayItem);
+    @Override
+    protected void initializeEntities() {
+        super.initializeEntities();
+        boolean visibleByDefault = isVisibleByDefault();
+        itemDisplayHandle = getRenderBackend().spawn(getWorldTransform().toLocation(), ItemDisplay.class, visibleByDefault, item -> {
+            EntityTags.tag(item, parentMenu);
             item.setPersistent(false);
         });
+        // Backends without a real entity never run the configure callback
+        itemDisplayHandle.getBackend().setItem(itemDisplayHandle, displayItem);
+    }
+
+    @Override
+    public void forEachHandle(Consumer<RenderHandle<?>> action) {
+        super.forEachHandle(action);
+        if (itemDisplayHandle != null) action.accept(itemDisplayHandle);
+    }
+
+    @Override
+    public int getEntityCount() {
+        return super.getEntityCount() + 1;
+    }
+
+    @Override
+    protected void onTransformChanged() {
+        if (itemDisplayHandle != null) {
+            itemDisplayHandle.teleport(getWorldTransform(), getTeleportDuration());
+        }
+    }
+
+    // The item follows the text's billboard
+    @Override
+    protected void sendTextStyle() {
+        super.sendTextStyle();
+        if (itemDisplayHandle != null) {
+            itemDisplayHandle.getBackend().setTextStyle(itemDisplayHandle, textStyle);
+        }
+    }
+
+    @Override
+    protected void onAppearanceChanged(float scale, float rotation, float opacity) {
+        if (itemDisplayHandle != null) {
+            itemDisplayHandle.getBackend().setAppearance(itemDisplayHandle, scale, rotation, opacity, getTeleportDuration());
+        }
+    }
+
+    @Override
+    protected void destroyEntities() {
+        super.destroyEntities();
+        if (itemDisplayHandle != null) {
+            itemDisplayHandle.remove();
+            itemDisplayHandle = null;
+        }
     }
 
     @Override
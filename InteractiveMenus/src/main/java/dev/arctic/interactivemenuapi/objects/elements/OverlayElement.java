@@ -3,16 +3,18 @@ package dev.arctic.interactivemenuapi.objects.elements;
 import dev.arctic.interactivemenuapi.objects.Division;
 import dev.arctic.interactivemenuapi.objects.Element;
 import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import dev.arctic.interactivemenuapi.scheduler.TimingWheel;
 import org.bukkit.util.Vector;
-import org.bukkit.scheduler.BukkitRunnable;
 
 public class OverlayElement extends Element {
 
     private boolean interactToRemove;
     private long displayDuration;
+    private TimingWheel.Timeout displayTimeout;
 
     public OverlayElement(Menu parentMenu, Division parentDivision, Vector offset, boolean interactToRemove, long displayDuration) {
-        super(parentMenu, parentDivision, offset.add(new Vector(0, 0, 0.1)));
+        super(parentMenu, parentDivision, offset.clone().add(new Vector(0, 0, 0.1)));
         this.interactToRemove = interactToRemove;
         this.displayDuration = displayDuration;
 
@@ -22,12 +24,16 @@ public class OverlayElement extends Element {
     }
 
     private void startDisplayTimer() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                cleanup();
-            }
-        }.runTaskLater(parentMenu.getPlugin(), displayDuration);
+        displayTimeout = MenuScheduler.runLater(parentMenu, displayDuration, this::cleanup);
+    }
+
+    @Override
+    public void cleanup() {
+        if (displayTimeout != null) {
+            displayTimeout.cancel();
+            displayTimeout = null;
+        }
+        super.cleanup();
     }
 
     @Override
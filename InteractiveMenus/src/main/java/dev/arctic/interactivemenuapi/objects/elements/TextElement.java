@@ -9,7 +9,11 @@ public class TextElement extends Element {
 
     public TextElement(Menu parentMenu, Division parentDivision, Vector offset) {
         super(parentMenu, parentDivision, offset);
-        this.interactionEntity.remove();
+    }
+
+    @Override
+    protected boolean hasInteraction() {
+        return false;
     }
 
     @Override
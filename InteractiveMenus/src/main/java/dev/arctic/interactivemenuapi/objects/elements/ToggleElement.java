@@ -2,17 +2,27 @@ package dev.arctic.interactivemenuapi.objects.elements;
 
 import dev.arctic.interactivemenuapi.animation.Animation;
 import dev.arctic.interactivemenuapi.animation.AnimationType;
+import dev.arctic.interactivemenuapi.interaction.ClickType;
+import dev.arctic.interactivemenuapi.interaction.ToggleListener;
 import dev.arctic.interactivemenuapi.objects.Division;
 import dev.arctic.interactivemenuapi.objects.Element;
 import dev.arctic.interactivemenuapi.objects.Menu;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 public class ToggleElement extends Element {
 
+    private static final Logger LOGGER = Logger.getLogger(ToggleElement.class.getName());
+
     private boolean isPressed;
     private AnimationType pressAnimationType;
     private double pressAnimationStepper;
+    private List<ToggleListener> toggleListeners; // Created on the first addToggleListener()
 
     public ToggleElement(Menu parentMenu, Division parentDivision, Vector offset, AnimationType pressAnimationType, double pressAnimationStepper) {
         super(parentMenu, parentDivision, offset);
@@ -21,22 +31,62 @@ public class ToggleElement extends Element {
         this.pressAnimationStepper = pressAnimationStepper;
     }
 
+    public boolean isPressed() {
+        return isPressed;
+    }
+
+    public void setPressed(boolean pressed) {
+        setPressed(null, pressed);
+    }
+
+    public void toggle() {
+        setPressed(null, !isPressed);
+    }
+
+    public void addToggleListener(ToggleListener listener) {
+        if (toggleListeners == null) {
+            toggleListeners = new CopyOnWriteArrayList<>();
+        }
+        toggleListeners.add(listener);
+    }
+
+    public void removeToggleListener(ToggleListener listener) {
+        if (toggleListeners != null) {
+            toggleListeners.remove(listener);
+        }
+    }
+
+    @Override
+    protected void onInteract(Player player, ClickType clickType) {
+        setPressed(player, !isPressed);
+    }
+
     @Override
     public void onInteract() {
-        isPressed = !isPressed;
-        if (pressAnimationType != AnimationType.NONE) {
-            applyAnimation();
+        onInteract(null, ClickType.RIGHT);
+    }
+
+    private void setPressed(Player player, boolean pressed) {
+        if (pressed == isPressed) return;
+        isPressed = pressed;
+        applyAnimation();
+        if (toggleListeners == null) return;
+        for (ToggleListener listener : toggleListeners) {
+            try {
+                listener.onToggle(player, pressed);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Toggle listener threw an exception", e);
+            }
         }
     }
 
+    // The offset follows the pressed state, so pressing twice puts the element back where it started
     @Override
     public void applyAnimation() {
-        if (pressAnimationType != AnimationType.NONE) {
-            Animation animation = new Animation(pressAnimationType, pressAnimationStepper);
-            Animation.AnimationResult result = animation.apply();
-            location.add(result.vectorChange());
-            interactionEntity.teleport(location);
-            textDisplayEntity.teleport(location);
-        }
+        if (pressAnimationType == AnimationType.NONE) return;
+        animationOffsetX = isPressed ? Animation.offsetX(pressAnimationType, pressAnimationStepper) : 0;
+        animationOffsetY = isPressed ? Animation.offsetY(pressAnimationType, pressAnimationStepper) : 0;
+        animationOffsetZ = isPressed ? Animation.offsetZ(pressAnimationType, pressAnimationStepper) : 0;
+        updateTransform();
     }
 }
@@ -0,0 +1,71 @@
+package dev.arctic.interactivemenuapi.orphan;
+
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Entity;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.UUID;
+
+/**
+ * Marks every entity the library spawns with the UUID of the menu that owns it, in the entity's
+ * PersistentDataContainer under {@code <plugin>:menu}. Pooled entities are marked as belonging to the pool of the
+ * current server session instead. The {@link OrphanReaper} uses the marks to find entities no live menu owns.
+ *
+ * <p>The key is namespaced by the plugin that drives the {@link MenuScheduler}, so two plugins shading the library
+ * never remove each other's entities. Nothing is tagged before the scheduler has a plugin.</p>
+ */
+public final class EntityTags {
+
+    // Differs on every server start and plugin reload, so pool entities left behind by an earlier session are orphans
+    private static final String POOL_OWNER = "pool:" + UUID.randomUUID();
+
+    private static NamespacedKey key;
+
+    private EntityTags() {
+    }
+
+    public static void tag(Entity entity, Menu menu) {
+        NamespacedKey ownerKey = getKey();
+        if (ownerKey == null || entity == null || menu == null || menu.getMenuUUID() == null) return;
+        entity.getPersistentDataContainer().set(ownerKey, PersistentDataType.STRING, menu.getMenuUUID().toString());
+    }
+
+    public static void tagPooled(Entity entity) {
+        NamespacedKey ownerKey = getKey();
+        if (ownerKey == null || entity == null) return;
+        entity.getPersistentDataContainer().set(ownerKey, PersistentDataType.STRING, POOL_OWNER);
+    }
+
+    // The stored owner, or null if the entity was not spawned by this plugin's menus
+    public static String getOwner(Entity entity) {
+        NamespacedKey ownerKey = getKey();
+        if (ownerKey == null) return null;
+        return entity.getPersistentDataContainer().get(ownerKey, PersistentDataType.STRING);
+    }
+
+    /**
+     * Whether the entity was spawned by this plugin's menus but is no longer owned by a live menu or the pool.
+     *
+     * @param entity The entity to check.
+     * @return False for untagged entities.
+     */
+    public static boolean isOrphan(Entity entity) {
+        String owner = getOwner(entity);
+        if (owner == null || owner.equals(POOL_OWNER)) return false;
+        if (owner.startsWith("pool:")) return true;
+        try {
+            return MenuScheduler.getMenu(UUID.fromString(owner)) == null;
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    private static NamespacedKey getKey() {
+        if (key == null && MenuScheduler.getPlugin() != null) {
+            key = new NamespacedKey(MenuScheduler.getPlugin(), "menu");
+        }
+        return key;
+    }
+}
@@ -0,0 +1,88 @@
+package dev.arctic.interactivemenuapi.orphan;
+
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Interaction;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Removes entities tagged by {@link EntityTags} whose menu is gone, left behind by crashes, reloads or bugs.
+ * Runs a full sweep when the scheduler starts and every {@link #SWEEP_INTERVAL} ticks, and checks entities as their
+ * chunks load. Removal counts are kept so leaks show up in the metrics.
+ *
+ * <p>On Folia only the chunk load check runs, since a full sweep would touch entities owned by other regions.</p>
+ */
+public final class OrphanReaper {
+
+    public static final long SWEEP_INTERVAL = 6000L; // 5 minutes
+
+    private static final LongAdder scanned = new LongAdder();
+    private static final LongAdder removed = new LongAdder();
+    private static final LongAdder removedOnLoad = new LongAdder();
+    private static volatile int lastSweepRemoved;
+
+    private OrphanReaper() {
+    }
+
+    /**
+     * Checks every menu-type entity in every loaded world. Main thread only.
+     *
+     * @return The number of orphans removed.
+     */
+    public static int sweepAll() {
+        if (MenuScheduler.isFolia()) return 0;
+        int count = 0;
+        for (World world : Bukkit.getWorlds()) {
+            count += reap(world.getEntitiesByClasses(Interaction.class, Display.class));
+        }
+        lastSweepRemoved = count;
+        return count;
+    }
+
+    /**
+     * Checks the given entities, for example those of a chunk that just loaded.
+     *
+     * @param entities The entities to check; anything that is not an Interaction or Display is skipped.
+     * @return The number of orphans removed.
+     */
+    public static int reap(Collection<? extends Entity> entities) {
+        int count = 0;
+        for (Entity entity : entities) {
+            if (!(entity instanceof Interaction) && !(entity instanceof Display)) continue;
+            scanned.increment();
+            if (EntityTags.isOrphan(entity)) {
+                entity.remove();
+                count++;
+            }
+        }
+        removed.add(count);
+        return count;
+    }
+
+    // Called by the listener when a chunk's entities load
+    public static void reapLoaded(Collection<? extends Entity> entities) {
+        removedOnLoad.add(reap(entities));
+    }
+
+    public static long getScanned() {
+        return scanned.sum();
+    }
+
+    // Orphans removed since startup, by any trigger
+    public static long getRemoved() {
+        return removed.sum();
+    }
+
+    public static long getRemovedOnLoad() {
+        return removedOnLoad.sum();
+    }
+
+    public static int getLastSweepRemoved() {
+        return lastSweepRemoved;
+    }
+}
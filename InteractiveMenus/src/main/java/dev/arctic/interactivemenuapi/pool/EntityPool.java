@@ -0,0 +1,233 @@
+package dev.arctic.interactivemenuapi.pool;
+
+import dev.arctic.interactivemenuapi.orphan.EntityTags;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Interaction;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.util.Transformation;
+import org.joml.AxisAngle4f;
+import org.joml.Vector3f;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-world pool of hidden, non-persistent {@link Interaction}, {@link TextDisplay} and {@link ItemDisplay} entities.
+ * Elements acquire their entities from the pool and release them on cleanup, so menus that are opened and closed
+ * often reuse entities instead of spawning and removing them every time.
+ *
+ * <p>A pool keeps at most {@link #getHighWatermark()} free entities per type; anything released beyond that is removed.
+ * Pools that have been idle for {@link #IDLE_TRIM_TICKS} are trimmed back down to {@link #getLowWatermark()}.</p>
+ *
+ * <p>Pooling is off on Folia: a pooled entity may belong to another region, and moving it would need an async
+ * teleport. Entities are spawned fresh and removed on their own region's thread instead.</p>
+ */
+public final class EntityPool {
+
+    public static final long IDLE_TRIM_TICKS = 600L;
+
+    private static final Map<UUID, EntityPool> pools = new ConcurrentHashMap<>();
+    private static int lowWatermark = 8;
+    private static int highWatermark = 64;
+
+    private final World world;
+    private final Map<Class<? extends Entity>, ArrayDeque<Entity>> freeEntities = new HashMap<>();
+    private long lastReleaseTick;
+    private long currentTick;
+
+    private EntityPool(World world) {
+        this.world = world;
+        freeEntities.put(Interaction.class, new ArrayDeque<>());
+        freeEntities.put(TextDisplay.class, new ArrayDeque<>());
+        freeEntities.put(ItemDisplay.class, new ArrayDeque<>());
+    }
+
+    public static EntityPool of(World world) {
+        return pools.computeIfAbsent(world.getUID(), id -> new EntityPool(world));
+    }
+
+    /**
+     * Returns an entity to the pool of its world, or removes it if it cannot be pooled.
+     *
+     * @param entity The entity to release. Null and dead entities are ignored.
+     */
+    public static void release(Entity entity) {
+        if (entity == null || entity.isDead()) return;
+        if (MenuScheduler.isFolia()) {
+            entity.getScheduler().execute(MenuScheduler.getPlugin(), entity::remove, null, 1L);
+            return;
+        }
+        of(entity.getWorld()).releaseEntity(entity);
+    }
+
+    /**
+     * Sets the pool watermarks for every world.
+     *
+     * @param low  Free entities kept per type after an idle pool is trimmed.
+     * @param high Maximum free entities kept per type.
+     */
+    public static void setWatermarks(int low, int high) {
+        if (low < 0 || high < low) {
+            throw new IllegalArgumentException("Watermarks must satisfy 0 <= low <= high");
+        }
+        lowWatermark = low;
+        highWatermark = high;
+    }
+
+    public static int getLowWatermark() {
+        return lowWatermark;
+    }
+
+    public static int getHighWatermark() {
+        return highWatermark;
+    }
+
+    /**
+     * Trims idle pools down to the low watermark. Driven by the MenuScheduler.
+     *
+     * @param currentTick The current scheduler tick.
+     */
+    public static void tick(long currentTick) {
+        for (EntityPool pool : pools.values()) {
+            pool.currentTick = currentTick;
+            if (currentTick - pool.lastReleaseTick >= IDLE_TRIM_TICKS) {
+                pool.trim(lowWatermark);
+            }
+        }
+    }
+
+    /**
+     * Removes every pooled entity in every world.
+     */
+    public static void clearAll() {
+        for (EntityPool pool : pools.values()) {
+            pool.trim(0);
+        }
+        pools.clear();
+    }
+
+    /**
+     * Hands out a pooled entity moved to the given location, or spawns a new one if the pool is empty.
+     *
+     * @param location  Where the entity should be.
+     * @param type      Interaction, TextDisplay or ItemDisplay. Other types are always spawned fresh.
+     * @param configure Applied to the entity before it is shown. May hide it again with setVisibleByDefault(false).
+     * @return The ready entity.
+     */
+    public <T extends Entity> T acquire(Location location, Class<T> type, Consumer<T> configure) {
+        ArrayDeque<Entity> free = MenuScheduler.isFolia() ? null : freeEntities.get(type);
+        if (free != null) {
+            Entity pooled;
+            while ((pooled = free.pollFirst()) != null) {
+                if (!pooled.isValid()) continue; // Non-persistent entities vanish with their chunk
+
+                T entity = type.cast(pooled);
+                entity.teleport(location);
+                entity.setVisibleByDefault(true); // Before configure, so callers can keep it hidden
+                configure.accept(entity);
+                return entity;
+            }
+        }
+
+        return world.spawn(location, type, entity -> {
+            entity.setPersistent(false);
+            configure.accept(entity);
+        });
+    }
+
+    /**
+     * Spawns hidden entities into the pool ahead of time.
+     *
+     * @param location Where the hidden entities are parked.
+     * @param type     Interaction, TextDisplay or ItemDisplay.
+     * @param count    How many entities to add, capped by the high watermark.
+     */
+    public void prefill(Location location, Class<? extends Entity> type, int count) {
+        ArrayDeque<Entity> free = freeEntities.get(type);
+        if (free == null) return;
+
+        while (count-- > 0 && free.size() < highWatermark) {
+            free.addLast(world.spawn(location, type, entity -> {
+                EntityTags.tagPooled(entity);
+                entity.setPersistent(false);
+                entity.setVisibleByDefault(false);
+            }));
+        }
+    }
+
+    public int getFreeCount(Class<? extends Entity> type) {
+        ArrayDeque<Entity> free = freeEntities.get(type);
+        return free == null ? 0 : free.size();
+    }
+
+    private void releaseEntity(Entity entity) {
+        lastReleaseTick = currentTick;
+
+        ArrayDeque<Entity> free = freeEntities.get(poolType(entity));
+        if (free == null || free.size() >= highWatermark || !entity.isValid()) {
+            entity.remove();
+            return;
+        }
+
+        reset(entity);
+        free.addLast(entity);
+    }
+
+    private void trim(int keep) {
+        for (ArrayDeque<Entity> free : freeEntities.values()) {
+            while (free.size() > keep) {
+                free.pollLast().remove();
+            }
+        }
+    }
+
+    private static Class<? extends Entity> poolType(Entity entity) {
+        if (entity instanceof Interaction) return Interaction.class;
+        if (entity instanceof TextDisplay) return TextDisplay.class;
+        if (entity instanceof ItemDisplay) return ItemDisplay.class;
+        return null;
+    }
+
+    // Puts the entity back into the state a freshly spawned one would have, and hides it
+    private static void reset(Entity entity) {
+        EntityTags.tagPooled(entity);
+        entity.setVisibleByDefault(false);
+        entity.setGlowing(false);
+
+        if (entity instanceof Interaction interaction) {
+            interaction.setInteractionWidth(1f);
+            interaction.setInteractionHeight(1f);
+            interaction.setResponsive(false);
+        }
+
+        if (entity instanceof Display display) {
+            display.setTeleportDuration(0);
+            display.setInterpolationDuration(0);
+            display.setBillboard(Display.Billboard.FIXED);
+            // Scale and rotation live in the transformation; a reused display must not keep the last menu's
+            display.setTransformation(new Transformation(new Vector3f(), new AxisAngle4f(), new Vector3f(1, 1, 1), new AxisAngle4f()));
+        }
+
+        if (entity instanceof TextDisplay textDisplay) {
+            textDisplay.text(Component.empty());
+            textDisplay.setAlignment(TextDisplay.TextAlignment.CENTER);
+            textDisplay.setBackgroundColor(null);
+            textDisplay.setLineWidth(200);
+            textDisplay.setShadowed(false);
+            textDisplay.setSeeThrough(false);
+            textDisplay.setTextOpacity((byte) -1);
+        } else if (entity instanceof ItemDisplay itemDisplay) {
+            itemDisplay.setItemStack(null);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package dev.arctic.interactivemenuapi.registry;
+
+import dev.arctic.interactivemenuapi.objects.Element;
+import dev.arctic.interactivemenuapi.render.RenderHandle;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.bukkit.entity.Entity;
+
+/**
+ * Global index from spawned entity id to the {@link Element} that owns it.
+ * Filled when an element spawns its entities and cleared on cleanup, so click dispatch never has to scan menus.
+ * Synchronized because on Folia elements spawn and are clicked on several region threads.
+ */
+public final class ElementRegistry {
+
+    private static final Int2ObjectOpenHashMap<Element> elementsByEntityId = new Int2ObjectOpenHashMap<>();
+
+    private ElementRegistry() {
+    }
+
+    public static synchronized void register(Entity entity, Element element) {
+        if (entity == null) return;
+        elementsByEntityId.put(entity.getEntityId(), element);
+    }
+
+    public static synchronized void register(RenderHandle<?> handle, Element element) {
+        if (handle == null) return;
+        elementsByEntityId.put(handle.getId(), element);
+    }
+
+    public static synchronized void unregister(RenderHandle<?> handle) {
+        if (handle == null) return;
+        elementsByEntityId.remove(handle.getId());
+    }
+
+    public static synchronized void unregister(Entity entity) {
+        if (entity == null) return;
+        elementsByEntityId.remove(entity.getEntityId());
+    }
+
+    public static synchronized Element get(Entity entity) {
+        return entity == null ? null : elementsByEntityId.get(entity.getEntityId());
+    }
+
+    public static synchronized Element get(int entityId) {
+        return elementsByEntityId.get(entityId);
+    }
+
+    public static synchronized int size() {
+        return elementsByEntityId.size();
+    }
+}
@@ -0,0 +1,200 @@
+package dev.arctic.interactivemenuapi.registry;
+
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.transform.TransformNode;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Per-world spatial hash of live menus by the chunk of their anchor, keyed by primitive chunk keys.
+ * Menus are added when they register, moved when their anchor crosses a chunk border and removed on cleanup,
+ * so proximity and chunk queries only visit the chunks in range instead of every menu.
+ *
+ * <p>Suspended menus stay indexed at the chunk they were suspended in. Synchronized, since on Folia menus move and
+ * register on several region threads.</p>
+ */
+public final class MenuSpatialIndex {
+
+    private record Cell(UUID world, long chunkKey) {
+    }
+
+    private static final Map<UUID, Long2ObjectOpenHashMap<List<Menu>>> menusByChunk = new HashMap<>();
+    private static final Map<Menu, Cell> cells = new IdentityHashMap<>();
+
+    private MenuSpatialIndex() {
+    }
+
+    /**
+     * Indexes a menu at its current root position, or moves it if it is already indexed.
+     * Called when the menu registers.
+     *
+     * @param menu The menu. Menus without a world are not indexed.
+     */
+    public static synchronized void add(Menu menu) {
+        move(menu, cells.get(menu));
+    }
+
+    /**
+     * Moves an indexed menu to the chunk of its current root position. Cheap when the menu stayed in the same chunk,
+     * and does nothing for menus that are not indexed, so a menu moved after its cleanup is not picked up again.
+     *
+     * @param menu The menu whose anchor moved.
+     */
+    public static synchronized void update(Menu menu) {
+        Cell current = cells.get(menu);
+        if (current != null) {
+            move(menu, current);
+        }
+    }
+
+    public static synchronized void remove(Menu menu) {
+        Cell cell = cells.remove(menu);
+        if (cell != null) {
+            removeFromCell(menu, cell);
+        }
+    }
+
+    public static synchronized void clear() {
+        menusByChunk.clear();
+        cells.clear();
+    }
+
+    public static synchronized int size() {
+        return cells.size();
+    }
+
+    /**
+     * Returns the menus anchored in a chunk.
+     *
+     * @param world  The world.
+     * @param chunkX The chunk X coordinate.
+     * @param chunkZ The chunk Z coordinate.
+     * @return A new list, empty if there are none.
+     */
+    public static synchronized List<Menu> getMenusInChunk(World world, int chunkX, int chunkZ) {
+        Long2ObjectOpenHashMap<List<Menu>> chunks = menusByChunk.get(world.getUID());
+        if (chunks == null) return List.of();
+        List<Menu> inChunk = chunks.get(Chunk.getChunkKey(chunkX, chunkZ));
+        return inChunk == null ? List.of() : new ArrayList<>(inChunk);
+    }
+
+    /**
+     * Returns the menus whose anchor is within a radius of a location.
+     *
+     * @param center The center of the search.
+     * @param radius The radius in blocks.
+     * @return A new list, empty if there are none.
+     */
+    public static List<Menu> getMenusNear(Location center, double radius) {
+        List<Menu> result = new ArrayList<>();
+        forEachNear(center, radius, result::add);
+        return result;
+    }
+
+    /**
+     * Visits the menus whose anchor is within a radius of a location, without allocating a result list.
+     * The action runs while the index is locked, so it must not register, move or clean up menus;
+     * use {@link #getMenusNear(Location, double)} for that.
+     *
+     * @param center The center of the search.
+     * @param radius The radius in blocks.
+     * @param action Called for every menu in range.
+     */
+    public static synchronized void forEachNear(Location center, double radius, Consumer<Menu> action) {
+        World world = center.getWorld();
+        if (world == null) return;
+        Long2ObjectOpenHashMap<List<Menu>> chunks = menusByChunk.get(world.getUID());
+        if (chunks == null || chunks.isEmpty()) return;
+
+        double x = center.getX();
+        double z = center.getZ();
+        double y = center.getY();
+        double radiusSquared = radius * radius;
+        int minChunkX = blockToChunk(x - radius);
+        int maxChunkX = blockToChunk(x + radius);
+        int minChunkZ = blockToChunk(z - radius);
+        int maxChunkZ = blockToChunk(z + radius);
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                List<Menu> inChunk = chunks.get(Chunk.getChunkKey(chunkX, chunkZ));
+                if (inChunk == null) continue;
+                for (int i = 0, size = inChunk.size(); i < size; i++) {
+                    Menu menu = inChunk.get(i);
+                    TransformNode root = menu.getRootNode();
+                    double dx = root.getWorldX() - x;
+                    double dy = root.getWorldY() - y;
+                    double dz = root.getWorldZ() - z;
+                    if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                        action.accept(menu);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Cleans up every menu whose anchor is within a radius of a location.
+     *
+     * @param center The center.
+     * @param radius The radius in blocks.
+     * @return The number of menus closed.
+     */
+    public static int closeMenusNear(Location center, double radius) {
+        List<Menu> menus = getMenusNear(center, radius);
+        for (Menu menu : menus) {
+            menu.cleanup();
+        }
+        return menus.size();
+    }
+
+    private static void move(Menu menu, Cell current) {
+        TransformNode root = menu.getRootNode();
+        World world = root.getWorld();
+        if (world == null) {
+            remove(menu);
+            return;
+        }
+
+        UUID worldId = world.getUID();
+        long chunkKey = Chunk.getChunkKey(blockToChunk(root.getWorldX()), blockToChunk(root.getWorldZ()));
+        if (current != null && current.chunkKey() == chunkKey && current.world().equals(worldId)) return;
+
+        if (current != null) {
+            removeFromCell(menu, current);
+        }
+        Cell cell = new Cell(worldId, chunkKey);
+        cells.put(menu, cell);
+        menusByChunk.computeIfAbsent(worldId, id -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(chunkKey, key -> new ArrayList<>(2))
+                .add(menu);
+    }
+
+    private static void removeFromCell(Menu menu, Cell cell) {
+        Long2ObjectOpenHashMap<List<Menu>> chunks = menusByChunk.get(cell.world());
+        if (chunks == null) return;
+        List<Menu> inChunk = chunks.get(cell.chunkKey());
+        if (inChunk == null) return;
+        inChunk.remove(menu);
+        if (inChunk.isEmpty()) {
+            chunks.remove(cell.chunkKey());
+            if (chunks.isEmpty()) {
+                menusByChunk.remove(cell.world());
+            }
+        }
+    }
+
+    private static int blockToChunk(double coordinate) {
+        return (int) Math.floor(coordinate) >> 4;
+    }
+}
@@ -0,0 +1,133 @@
+package dev.arctic.interactivemenuapi.render;
+
+import dev.arctic.interactivemenuapi.text.TextStyle;
+import dev.arctic.interactivemenuapi.transform.TransformNode;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * In-memory backend that spawns nothing and only counts (and optionally records) what would have been sent.
+ * Lets menus be built, updated and cleaned up in tests and benchmarks without a running server.
+ */
+@Getter
+public class RecordingRenderBackend implements RenderBackend {
+
+    public enum OperationType {
+        SPAWN,
+        TELEPORT,
+        APPEARANCE,
+        TEXT,
+        VISIBILITY,
+        REMOVE
+    }
+
+    public record Operation(OperationType type, int id, Class<?> entityType, double x, double y, double z) {
+    }
+
+    private final boolean recordOperations;
+    private final List<Operation> operations = new ArrayList<>();
+    private int nextId = -1; // Negative so ids never collide with real entity ids in the ElementRegistry
+    private long spawnCount;
+    private long teleportCount;
+    private long appearanceCount;
+    private long textCount;
+    private long visibilityCount;
+    private long removeCount;
+    private int liveCount;
+
+    public RecordingRenderBackend() {
+        this(true);
+    }
+
+    public RecordingRenderBackend(boolean recordOperations) {
+        this.recordOperations = recordOperations;
+    }
+
+    @Override
+    public <T extends Entity> RenderHandle<T> spawn(Location location, Class<T> type, boolean visibleByDefault, Consumer<T> configure) {
+        RenderHandle<T> handle = new RenderHandle<>(this, type, nextId--, null);
+        spawnCount++;
+        liveCount++;
+        record(OperationType.SPAWN, handle, location);
+        return handle;
+    }
+
+    @Override
+    public void teleport(RenderHandle<?> handle, TransformNode transform, int teleportDuration) {
+        teleportCount++;
+        if (recordOperations) {
+            operations.add(new Operation(OperationType.TELEPORT, handle.getId(), handle.getType(),
+                    transform.getWorldX(), transform.getWorldY(), transform.getWorldZ()));
+        }
+    }
+
+    @Override
+    public void setAppearance(RenderHandle<?> handle, float scale, float rotation, float opacity, int interpolationTicks) {
+        appearanceCount++;
+        record(OperationType.APPEARANCE, handle, null);
+    }
+
+    @Override
+    public void setText(RenderHandle<?> handle, Component text) {
+        textCount++;
+        record(OperationType.TEXT, handle, null);
+    }
+
+    @Override
+    public void setItem(RenderHandle<?> handle, ItemStack item) {
+        appearanceCount++;
+        record(OperationType.APPEARANCE, handle, null);
+    }
+
+    @Override
+    public void setTextStyle(RenderHandle<?> handle, TextStyle style) {
+        textCount++;
+        record(OperationType.TEXT, handle, null);
+    }
+
+    @Override
+    public void setVisibleByDefault(RenderHandle<?> handle, boolean visible) {
+        visibilityCount++;
+        record(OperationType.VISIBILITY, handle, null);
+    }
+
+    @Override
+    public void setViewerVisible(RenderHandle<?> handle, Player viewer, boolean visible) {
+        visibilityCount++;
+        record(OperationType.VISIBILITY, handle, null);
+    }
+
+    @Override
+    public void remove(RenderHandle<?> handle) {
+        removeCount++;
+        liveCount--;
+        record(OperationType.REMOVE, handle, null);
+    }
+
+    public void reset() {
+        operations.clear();
+        spawnCount = 0;
+        teleportCount = 0;
+        appearanceCount = 0;
+        textCount = 0;
+        visibilityCount = 0;
+        removeCount = 0;
+    }
+
+    private void record(OperationType type, RenderHandle<?> handle, Location location) {
+        if (!recordOperations) return;
+        if (location == null) {
+            operations.add(new Operation(type, handle.getId(), handle.getType(), 0, 0, 0));
+        } else {
+            operations.add(new Operation(type, handle.getId(), handle.getType(), location.getX(), location.getY(), location.getZ()));
+        }
+    }
+}
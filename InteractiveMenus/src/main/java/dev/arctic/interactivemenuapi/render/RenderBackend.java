@@ -0,0 +1,105 @@
+package dev.arctic.interactivemenuapi.render;
+
+import dev.arctic.interactivemenuapi.text.TextStyle;
+import dev.arctic.interactivemenuapi.transform.TransformNode;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.function.Consumer;
+
+/**
+ * Layer between menu elements and whatever actually shows them to players.
+ * Elements only spawn, move and remove through a backend, so the same menu can be rendered with real world entities,
+ * recorded in memory, or sent to viewers by a packet-level implementation.
+ *
+ * <p>Implementations:</p>
+ * <ul>
+ *     <li>{@link WorldRenderBackend} - real, pooled world entities (default)</li>
+ *     <li>{@link VirtualRenderBackend} - client-side entities sent as packets to nearby players, needs PacketEvents</li>
+ *     <li>{@link RecordingRenderBackend} - in-memory, for tests and benchmarks</li>
+ * </ul>
+ */
+public interface RenderBackend {
+
+    /**
+     * Spawns an entity of the given type.
+     *
+     * @param location         Where the entity should appear.
+     * @param type             The entity type, e.g. Interaction or TextDisplay.
+     * @param visibleByDefault False to only show it to players it is explicitly shown to.
+     * @param configure        Applied to the entity before it is shown, if the backend has a real entity.
+     * @return The handle used to move and remove the entity.
+     */
+    <T extends Entity> RenderHandle<T> spawn(Location location, Class<T> type, boolean visibleByDefault, Consumer<T> configure);
+
+    /**
+     * Moves an entity to the world transform of a node.
+     *
+     * @param handle           The entity to move.
+     * @param transform        The node holding the new world position and rotation.
+     * @param teleportDuration Client-side interpolation in ticks, 0 to snap. Ignored for non-display entities.
+     */
+    void teleport(RenderHandle<?> handle, TransformNode transform, int teleportDuration);
+
+    /**
+     * Changes the scale, rotation and opacity of a display entity.
+     *
+     * @param handle             The entity to change. Non-display entities are ignored.
+     * @param scale              Uniform scale.
+     * @param rotation           Rotation around the vertical axis in degrees.
+     * @param opacity            Opacity in [0, 1]; only text displays support it.
+     * @param interpolationTicks Client-side interpolation in ticks, 0 to snap.
+     */
+    void setAppearance(RenderHandle<?> handle, float scale, float rotation, float opacity, int interpolationTicks);
+
+    /**
+     * Replaces the text of a text display.
+     *
+     * @param handle The entity to change. Non-text displays are ignored.
+     * @param text   The new text.
+     */
+    void setText(RenderHandle<?> handle, Component text);
+
+    /**
+     * Replaces the item of an item display.
+     *
+     * @param handle The entity to change. Non-item displays are ignored.
+     * @param item   The new item, null for none.
+     */
+    void setItem(RenderHandle<?> handle, ItemStack item);
+
+    /**
+     * Applies alignment, background, line width, billboard, shadow and see-through to a text display.
+     *
+     * @param handle The entity to change. Billboard also applies to other displays.
+     * @param style  The style to apply.
+     */
+    void setTextStyle(RenderHandle<?> handle, TextStyle style);
+
+    /**
+     * Sets whether an entity is shown to every player in tracking range.
+     *
+     * @param handle  The entity.
+     * @param visible False to only show it to players it was explicitly shown to.
+     */
+    void setVisibleByDefault(RenderHandle<?> handle, boolean visible);
+
+    /**
+     * Shows or hides an entity for one player, regardless of whether it is visible by default.
+     *
+     * @param handle  The entity.
+     * @param viewer  The player.
+     * @param visible True to show, false to hide.
+     */
+    void setViewerVisible(RenderHandle<?> handle, Player viewer, boolean visible);
+
+    /**
+     * Removes an entity. A handle must not be used again after it was removed.
+     *
+     * @param handle The entity to remove.
+     */
+    void remove(RenderHandle<?> handle);
+}
@@ -0,0 +1,29 @@
+package dev.arctic.interactivemenuapi.render;
+
+import dev.arctic.interactivemenuapi.transform.TransformNode;
+import lombok.Getter;
+import org.bukkit.entity.Entity;
+
+@Getter
+public final class RenderHandle<T extends Entity> {
+
+    private final RenderBackend backend;
+    private final Class<T> type;
+    private final int id;
+    private final T entity; // null when the backend has no real world entity
+
+    public RenderHandle(RenderBackend backend, Class<T> type, int id, T entity) {
+        this.backend = backend;
+        this.type = type;
+        this.id = id;
+        this.entity = entity;
+    }
+
+    public void teleport(TransformNode transform, int teleportDuration) {
+        backend.teleport(this, transform, teleportDuration);
+    }
+
+    public void remove() {
+        backend.remove(this);
+    }
+}
@@ -0,0 +1,574 @@
+package dev.arctic.interactivemenuapi.render;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.PacketListener;
+import com.github.retrooper.packetevents.event.PacketListenerCommon;
+import com.github.retrooper.packetevents.event.PacketListenerPriority;
+import com.github.retrooper.packetevents.event.PacketReceiveEvent;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityDataTypes;
+import com.github.retrooper.packetevents.protocol.entity.type.EntityType;
+import com.github.retrooper.packetevents.protocol.entity.type.EntityTypes;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.util.Quaternion4f;
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.util.Vector3f;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.client.WrapperPlayClientInteractEntity;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityTeleport;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerSpawnEntity;
+import dev.arctic.interactivemenuapi.interaction.ClickType;
+import dev.arctic.interactivemenuapi.listeners.MenuInteractionListener;
+import dev.arctic.interactivemenuapi.metrics.MenuMetrics;
+import dev.arctic.interactivemenuapi.objects.Element;
+import dev.arctic.interactivemenuapi.registry.ElementRegistry;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import dev.arctic.interactivemenuapi.text.TextStyle;
+import dev.arctic.interactivemenuapi.transform.TransformNode;
+import io.github.retrooper.packetevents.util.SpigotConversionUtil;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Interaction;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Backend whose entities exist only on the clients: spawn, metadata, move and destroy packets are sent to the players
+ * that can see them, and nothing is added to the world, its entity tick or its collision checks.
+ * Clicks on these entities are read from the incoming interact packets and dispatched like clicks on real ones.
+ *
+ * <p>Requires PacketEvents on the server. Every {@link #AUDIENCE_INTERVAL} ticks each player is matched against the
+ * entities in the chunks around them, so entities appear and disappear as players walk in and out of
+ * {@link #getViewRange()}. Visibility follows the same rules as real entities: visible by default to everyone in range,
+ * or only to the players it was explicitly shown to.</p>
+ *
+ * <p>The configure callback of {@link #spawn} is never called, since there is no entity to configure; everything the
+ * elements need goes through the other backend methods. Set it per menu with
+ * {@code menu.setRenderBackend(VirtualRenderBackend.INSTANCE)}.</p>
+ */
+public final class VirtualRenderBackend implements RenderBackend, Listener {
+
+    public static final VirtualRenderBackend INSTANCE = new VirtualRenderBackend();
+    public static final long AUDIENCE_INTERVAL = 10L;
+
+    //Display metadata indices, 1.20.2+
+    private static final int INTERPOLATION_DELAY = 8;
+    private static final int INTERPOLATION_DURATION = 9;
+    private static final int TELEPORT_DURATION = 10;
+    private static final int SCALE = 12;
+    private static final int LEFT_ROTATION = 13;
+    private static final int BILLBOARD = 15;
+    private static final int TEXT = 23;
+    private static final int ITEM = 23;
+    private static final int LINE_WIDTH = 24;
+    private static final int BACKGROUND = 25;
+    private static final int TEXT_OPACITY = 26;
+    private static final int TEXT_FLAGS = 27;
+    private static final int DEFAULT_BACKGROUND = 0x40000000;
+
+    private static final class VirtualEntity {
+        private final int id;
+        private final UUID uuid = UUID.randomUUID();
+        private final EntityType type;
+        private World world;
+        private double x, y, z;
+        private float yaw, pitch;
+        private long chunkKey;
+        private boolean visibleByDefault;
+        private final Set<UUID> shownTo = new HashSet<>();
+        private final Set<UUID> hiddenFrom = new HashSet<>();
+        private final Int2ObjectOpenHashMap<EntityData> metadata = new Int2ObjectOpenHashMap<>(); // Latest value per index, replayed to new viewers
+        private final List<Player> viewers = new ArrayList<>(2); // Players the spawn packet was sent to
+
+        private VirtualEntity(int id, EntityType type) {
+            this.id = id;
+            this.type = type;
+        }
+    }
+
+    private final Int2ObjectOpenHashMap<VirtualEntity> entities = new Int2ObjectOpenHashMap<>();
+    private final Map<UUID, Long2ObjectOpenHashMap<List<VirtualEntity>>> entitiesByChunk = new HashMap<>(); // World UUID -> chunk key
+    private final Map<UUID, IntOpenHashSet> tracked = new HashMap<>(); // Player UUID -> entity ids spawned on that client
+    private int nextId = Integer.MAX_VALUE; // Counts down, far away from the ids the server hands out
+    private double viewRange = 48.0;
+
+    //Lifecycle
+    private Plugin plugin;
+    private PacketListenerCommon packetListener;
+    private BukkitTask audienceTask;
+    private ScheduledTask foliaAudienceTask;
+
+    private VirtualRenderBackend() {
+    }
+
+    public synchronized double getViewRange() {
+        return viewRange;
+    }
+
+    // Players further than this from an entity do not receive it
+    public synchronized void setViewRange(double viewRange) {
+        this.viewRange = viewRange;
+    }
+
+    @Override
+    public synchronized <T extends Entity> RenderHandle<T> spawn(Location location, Class<T> type, boolean visibleByDefault, Consumer<T> configure) {
+        start();
+        VirtualEntity entity = new VirtualEntity(nextId--, typeOf(type));
+        entity.visibleByDefault = visibleByDefault;
+        entity.world = location.getWorld();
+        entity.x = location.getX();
+        entity.y = location.getY();
+        entity.z = location.getZ();
+        entity.yaw = location.getYaw();
+        entity.pitch = location.getPitch();
+        entities.put(entity.id, entity);
+        index(entity);
+        MenuMetrics.recordVirtualSpawn();
+
+        if (entity.world != null) {
+            for (Player player : entity.world.getPlayers()) {
+                updateViewerOnPlayerThread(entity, player);
+            }
+        }
+        return new RenderHandle<>(this, type, entity.id, null);
+    }
+
+    @Override
+    public synchronized void teleport(RenderHandle<?> handle, TransformNode transform, int teleportDuration) {
+        VirtualEntity entity = entities.get(handle.getId());
+        if (entity == null) return;
+        MenuMetrics.recordTeleport();
+
+        if (entity.type != EntityTypes.INTERACTION) {
+            EntityData previous = entity.metadata.get(TELEPORT_DURATION);
+            if (previous == null ? teleportDuration != 0 : !previous.getValue().equals(teleportDuration)) {
+                sendMetadata(entity, List.of(new EntityData(TELEPORT_DURATION, EntityDataTypes.INT, teleportDuration)));
+            }
+        }
+
+        unindex(entity);
+        entity.world = transform.getWorld();
+        entity.x = transform.getWorldX();
+        entity.y = transform.getWorldY();
+        entity.z = transform.getWorldZ();
+        entity.yaw = transform.getWorldYaw();
+        entity.pitch = transform.getWorldPitch();
+        index(entity);
+
+        WrapperPlayServerEntityTeleport packet = new WrapperPlayServerEntityTeleport(entity.id,
+                new Vector3d(entity.x, entity.y, entity.z), entity.yaw, entity.pitch, false);
+        for (Player viewer : entity.viewers) {
+            send(viewer, packet);
+        }
+    }
+
+    @Override
+    public synchronized void setAppearance(RenderHandle<?> handle, float scale, float rotation, float opacity, int interpolationTicks) {
+        VirtualEntity entity = entities.get(handle.getId());
+        if (entity == null || entity.type == EntityTypes.INTERACTION) return;
+        MenuMetrics.recordAppearanceUpdate();
+
+        double halfAngle = Math.toRadians(rotation) / 2;
+        List<EntityData> data = new ArrayList<>(5);
+        data.add(new EntityData(INTERPOLATION_DELAY, EntityDataTypes.INT, 0));
+        data.add(new EntityData(INTERPOLATION_DURATION, EntityDataTypes.INT, interpolationTicks));
+        data.add(new EntityData(SCALE, EntityDataTypes.VECTOR3F, new Vector3f(scale, scale, scale)));
+        data.add(new EntityData(LEFT_ROTATION, EntityDataTypes.QUATERNION,
+                new Quaternion4f(0f, (float) Math.sin(halfAngle), 0f, (float) Math.cos(halfAngle))));
+        if (entity.type == EntityTypes.TEXT_DISPLAY) {
+            // The client treats 0-3 as fully opaque, so fully transparent is clamped to 4
+            int alpha = Math.max(4, Math.min(255, Math.round(opacity * 255)));
+            data.add(new EntityData(TEXT_OPACITY, EntityDataTypes.BYTE, (byte) alpha));
+        }
+        sendMetadata(entity, data);
+    }
+
+    @Override
+    public synchronized void setText(RenderHandle<?> handle, Component text) {
+        VirtualEntity entity = entities.get(handle.getId());
+        if (entity == null || entity.type != EntityTypes.TEXT_DISPLAY) return;
+        MenuMetrics.recordTextUpdate();
+        sendMetadata(entity, List.of(new EntityData(TEXT, EntityDataTypes.ADV_COMPONENT, text)));
+    }
+
+    @Override
+    public synchronized void setItem(RenderHandle<?> handle, ItemStack item) {
+        VirtualEntity entity = entities.get(handle.getId());
+        if (entity == null || entity.type != EntityTypes.ITEM_DISPLAY) return;
+        sendMetadata(entity, List.of(new EntityData(ITEM, EntityDataTypes.ITEMSTACK, SpigotConversionUtil.fromBukkitItemStack(item))));
+    }
+
+    @Override
+    public synchronized void setTextStyle(RenderHandle<?> handle, TextStyle style) {
+        VirtualEntity entity = entities.get(handle.getId());
+        if (entity == null || entity.type == EntityTypes.INTERACTION) return;
+        MenuMetrics.recordTextUpdate();
+
+        List<EntityData> data = new ArrayList<>(4);
+        data.add(new EntityData(BILLBOARD, EntityDataTypes.BYTE, (byte) style.billboard().ordinal()));
+        if (entity.type == EntityTypes.TEXT_DISPLAY) {
+            int flags = 0;
+            if (style.shadowed()) flags |= 0x01;
+            if (style.seeThrough()) flags |= 0x02;
+            switch (style.alignment()) {
+                case LEFT -> flags |= 0x08;
+                case RIGHT -> flags |= 0x10;
+                default -> {
+                }
+            }
+            data.add(new EntityData(LINE_WIDTH, EntityDataTypes.INT, style.lineWidth()));
+            data.add(new EntityData(BACKGROUND, EntityDataTypes.INT, style.background() == null ? DEFAULT_BACKGROUND : style.background().asARGB()));
+            data.add(new EntityData(TEXT_FLAGS, EntityDataTypes.BYTE, (byte) flags));
+        }
+        sendMetadata(entity, data);
+    }
+
+    @Override
+    public synchronized void setVisibleByDefault(RenderHandle<?> handle, boolean visible) {
+        VirtualEntity entity = entities.get(handle.getId());
+        if (entity == null || entity.visibleByDefault == visible) return;
+        entity.visibleByDefault = visible;
+        if (entity.world == null) return;
+        for (Player player : entity.world.getPlayers()) {
+            updateViewerOnPlayerThread(entity, player);
+        }
+    }
+
+    @Override
+    public synchronized void setViewerVisible(RenderHandle<?> handle, Player viewer, boolean visible) {
+        VirtualEntity entity = entities.get(handle.getId());
+        if (entity == null) return;
+        UUID playerId = viewer.getUniqueId();
+        if (visible) {
+            entity.shownTo.add(playerId);
+            entity.hiddenFrom.remove(playerId);
+        } else {
+            entity.shownTo.remove(playerId);
+            entity.hiddenFrom.add(playerId);
+        }
+        updateViewerOnPlayerThread(entity, viewer);
+    }
+
+    @Override
+    public synchronized void remove(RenderHandle<?> handle) {
+        VirtualEntity entity = entities.remove(handle.getId());
+        if (entity == null) return;
+        unindex(entity);
+        for (Player viewer : new ArrayList<>(entity.viewers)) {
+            hide(entity, viewer);
+        }
+        MenuMetrics.recordVirtualRemoval();
+    }
+
+    public synchronized int getLiveCount() {
+        return entities.size();
+    }
+
+    //Audience
+
+    // Matches one player against the entities in the chunks around them
+    private synchronized void refresh(Player player) {
+        if (!player.isOnline()) return;
+        Location location = player.getLocation();
+        IntOpenHashSet visible = new IntOpenHashSet();
+        Long2ObjectOpenHashMap<List<VirtualEntity>> chunks = entitiesByChunk.get(location.getWorld().getUID());
+        if (chunks != null && !chunks.isEmpty()) {
+            int radius = (int) Math.ceil(viewRange / 16.0);
+            int centerX = location.getBlockX() >> 4;
+            int centerZ = location.getBlockZ() >> 4;
+            for (int chunkX = centerX - radius; chunkX <= centerX + radius; chunkX++) {
+                for (int chunkZ = centerZ - radius; chunkZ <= centerZ + radius; chunkZ++) {
+                    List<VirtualEntity> inChunk = chunks.get(Chunk.getChunkKey(chunkX, chunkZ));
+                    if (inChunk == null) continue;
+                    for (VirtualEntity entity : inChunk) {
+                        if (canSee(entity, player)) {
+                            visible.add(entity.id);
+                            if (!isViewing(entity, player)) {
+                                show(entity, player);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        IntOpenHashSet spawned = tracked.get(player.getUniqueId());
+        if (spawned == null) return;
+        IntIterator iterator = new IntOpenHashSet(spawned).iterator();
+        while (iterator.hasNext()) {
+            int id = iterator.nextInt();
+            if (visible.contains(id)) continue;
+            VirtualEntity entity = entities.get(id);
+            if (entity != null) {
+                hide(entity, player);
+            } else {
+                spawned.remove(id);
+            }
+        }
+    }
+
+    private void refreshAll() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (MenuScheduler.isFolia()) {
+                // Player positions may only be read on the region that owns the player
+                player.getScheduler().run(plugin, task -> refresh(player), null);
+            } else {
+                refresh(player);
+            }
+        }
+    }
+
+    // Player positions may only be read on the region that owns the player, so on Folia the check runs there
+    private void updateViewerOnPlayerThread(VirtualEntity entity, Player player) {
+        if (MenuScheduler.isFolia()) {
+            int id = entity.id;
+            player.getScheduler().run(plugin, task -> updateViewer(id, player), null);
+        } else {
+            updateViewer(entity, player);
+        }
+    }
+
+    // The entity may have been removed before the player's thread got to it
+    private synchronized void updateViewer(int id, Player player) {
+        VirtualEntity entity = entities.get(id);
+        if (entity != null && player.isOnline()) {
+            updateViewer(entity, player);
+        }
+    }
+
+    private void updateViewer(VirtualEntity entity, Player player) {
+        boolean canSee = canSee(entity, player);
+        boolean viewing = isViewing(entity, player);
+        if (canSee && !viewing) {
+            show(entity, player);
+        } else if (!canSee && viewing) {
+            hide(entity, player);
+        }
+    }
+
+    private boolean canSee(VirtualEntity entity, Player player) {
+        if (entity.world == null || player.getWorld() != entity.world) return false;
+        UUID playerId = player.getUniqueId();
+        if (entity.visibleByDefault ? entity.hiddenFrom.contains(playerId) : !entity.shownTo.contains(playerId)) {
+            return false;
+        }
+        Location location = player.getLocation();
+        double dx = location.getX() - entity.x;
+        double dy = location.getY() - entity.y;
+        double dz = location.getZ() - entity.z;
+        return dx * dx + dy * dy + dz * dz <= viewRange * viewRange;
+    }
+
+    private boolean isViewing(VirtualEntity entity, Player player) {
+        IntOpenHashSet spawned = tracked.get(player.getUniqueId());
+        return spawned != null && spawned.contains(entity.id);
+    }
+
+    private void show(VirtualEntity entity, Player player) {
+        send(player, new WrapperPlayServerSpawnEntity(entity.id, Optional.of(entity.uuid), entity.type,
+                new Vector3d(entity.x, entity.y, entity.z), entity.pitch, entity.yaw, entity.yaw, 0, Optional.empty()));
+        if (!entity.metadata.isEmpty()) {
+            send(player, new WrapperPlayServerEntityMetadata(entity.id, new ArrayList<>(entity.metadata.values())));
+        }
+        entity.viewers.add(player);
+        tracked.computeIfAbsent(player.getUniqueId(), id -> new IntOpenHashSet()).add(entity.id);
+    }
+
+    private void hide(VirtualEntity entity, Player player) {
+        send(player, new WrapperPlayServerDestroyEntities(entity.id));
+        entity.viewers.remove(player);
+        IntOpenHashSet spawned = tracked.get(player.getUniqueId());
+        if (spawned != null) {
+            spawned.remove(entity.id);
+        }
+    }
+
+    // Drops what the server believes a client has; the client already discarded its entities or left
+    private synchronized void forget(Player player) {
+        IntOpenHashSet spawned = tracked.remove(player.getUniqueId());
+        if (spawned == null) return;
+        IntIterator iterator = spawned.iterator();
+        while (iterator.hasNext()) {
+            VirtualEntity entity = entities.get(iterator.nextInt());
+            if (entity != null) {
+                entity.viewers.remove(player);
+            }
+        }
+    }
+
+    private void sendMetadata(VirtualEntity entity, List<EntityData> data) {
+        for (EntityData entry : data) {
+            entity.metadata.put(entry.getIndex(), entry);
+        }
+        if (entity.viewers.isEmpty()) return;
+        WrapperPlayServerEntityMetadata packet = new WrapperPlayServerEntityMetadata(entity.id, data);
+        for (Player viewer : entity.viewers) {
+            send(viewer, packet);
+        }
+    }
+
+    private static void send(Player player, PacketWrapper<?> packet) {
+        PacketEvents.getAPI().getPlayerManager().sendPacket(player, packet);
+    }
+
+    private void index(VirtualEntity entity) {
+        if (entity.world == null) return;
+        entity.chunkKey = Chunk.getChunkKey((int) Math.floor(entity.x) >> 4, (int) Math.floor(entity.z) >> 4);
+        entitiesByChunk.computeIfAbsent(entity.world.getUID(), id -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(entity.chunkKey, key -> new ArrayList<>(4))
+                .add(entity);
+    }
+
+    private void unindex(VirtualEntity entity) {
+        if (entity.world == null) return;
+        Long2ObjectOpenHashMap<List<VirtualEntity>> chunks = entitiesByChunk.get(entity.world.getUID());
+        if (chunks == null) return;
+        List<VirtualEntity> inChunk = chunks.get(entity.chunkKey);
+        if (inChunk == null) return;
+        inChunk.remove(entity);
+        if (inChunk.isEmpty()) {
+            chunks.remove(entity.chunkKey);
+        }
+    }
+
+    private static EntityType typeOf(Class<? extends Entity> type) {
+        if (Interaction.class.isAssignableFrom(type)) return EntityTypes.INTERACTION;
+        if (TextDisplay.class.isAssignableFrom(type)) return EntityTypes.TEXT_DISPLAY;
+        if (ItemDisplay.class.isAssignableFrom(type)) return EntityTypes.ITEM_DISPLAY;
+        if (Display.class.isAssignableFrom(type)) return EntityTypes.BLOCK_DISPLAY;
+        throw new IllegalArgumentException("Virtual entities can only be interactions and displays, not " + type.getSimpleName());
+    }
+
+    //Lifecycle
+
+    // Called on the first spawn; hooks the packet listener, the audience task and the player listeners
+    private void start() {
+        if (plugin != null) return;
+        plugin = MenuScheduler.getPlugin() != null ? MenuScheduler.getPlugin() : JavaPlugin.getProvidingPlugin(VirtualRenderBackend.class);
+        packetListener = PacketEvents.getAPI().getEventManager().registerListener(new ClickListener(), PacketListenerPriority.NORMAL);
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        if (MenuScheduler.isFolia()) {
+            foliaAudienceTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, task -> refreshAll(), AUDIENCE_INTERVAL, AUDIENCE_INTERVAL);
+        } else {
+            audienceTask = Bukkit.getScheduler().runTaskTimer(plugin, this::refreshAll, AUDIENCE_INTERVAL, AUDIENCE_INTERVAL);
+        }
+    }
+
+    /**
+     * Destroys every virtual entity on its viewers and unhooks the backend. Runs automatically when the owning plugin
+     * disables; the next spawn starts it again.
+     */
+    public synchronized void shutdown() {
+        if (plugin == null) return;
+        for (VirtualEntity entity : entities.values()) {
+            for (Player viewer : entity.viewers) {
+                send(viewer, new WrapperPlayServerDestroyEntities(entity.id));
+            }
+        }
+        entities.clear();
+        entitiesByChunk.clear();
+        tracked.clear();
+        PacketEvents.getAPI().getEventManager().unregisterListener(packetListener);
+        HandlerList.unregisterAll(this);
+        if (audienceTask != null) {
+            audienceTask.cancel();
+            audienceTask = null;
+        }
+        if (foliaAudienceTask != null) {
+            foliaAudienceTask.cancel();
+            foliaAudienceTask = null;
+        }
+        packetListener = null;
+        plugin = null;
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        forget(event.getPlayer());
+    }
+
+    // Both make the client drop every entity it had; the next refresh sends them again
+    @EventHandler
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        forget(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onRespawn(PlayerRespawnEvent event) {
+        forget(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == plugin) {
+            shutdown();
+        }
+    }
+
+    private synchronized boolean isTrackedBy(int entityId, Player player) {
+        IntOpenHashSet spawned = tracked.get(player.getUniqueId());
+        return spawned != null && spawned.contains(entityId) && entities.containsKey(entityId);
+    }
+
+    // Turns interact packets for virtual entities into element clicks on the player's thread
+    private final class ClickListener implements PacketListener {
+
+        @Override
+        public void onPacketReceive(PacketReceiveEvent event) {
+            if (event.getPacketType() != PacketType.Play.Client.INTERACT_ENTITY) return;
+            if (!(event.getPlayer() instanceof Player player)) return;
+
+            WrapperPlayClientInteractEntity packet = new WrapperPlayClientInteractEntity(event);
+            int entityId = packet.getEntityId();
+            // Only entities this client was sent; anything else is a real entity or a forged id
+            if (!isTrackedBy(entityId, player)) return;
+            event.setCancelled(true);
+
+            // INTERACT_AT is sent together with INTERACT for the same click
+            WrapperPlayClientInteractEntity.InteractAction action = packet.getAction();
+            if (action == WrapperPlayClientInteractEntity.InteractAction.INTERACT_AT) return;
+            boolean attack = action == WrapperPlayClientInteractEntity.InteractAction.ATTACK;
+
+            player.getScheduler().run(plugin, task -> {
+                Element element = ElementRegistry.get(entityId);
+                if (element != null) {
+                    MenuInteractionListener.dispatch(element, player, ClickType.of(attack, player.isSneaking()));
+                }
+            }, null);
+        }
+    }
+}
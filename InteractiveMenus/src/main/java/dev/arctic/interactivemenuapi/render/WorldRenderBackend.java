@@ -0,0 +1,122 @@
+package dev.arctic.interactivemenuapi.render;
+
+import dev.arctic.interactivemenuapi.metrics.MenuMetrics;
+import dev.arctic.interactivemenuapi.pool.EntityPool;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import dev.arctic.interactivemenuapi.text.TextStyle;
+import dev.arctic.interactivemenuapi.transform.TransformNode;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Transformation;
+import org.joml.AxisAngle4f;
+import org.joml.Vector3f;
+
+import java.util.function.Consumer;
+
+/**
+ * Default backend: real world entities taken from and returned to the {@link EntityPool}.
+ */
+public final class WorldRenderBackend implements RenderBackend {
+
+    public static final WorldRenderBackend INSTANCE = new WorldRenderBackend();
+
+    private WorldRenderBackend() {
+    }
+
+    @Override
+    public <T extends Entity> RenderHandle<T> spawn(Location location, Class<T> type, boolean visibleByDefault, Consumer<T> configure) {
+        T entity = EntityPool.of(location.getWorld()).acquire(location, type, spawned -> {
+            spawned.setVisibleByDefault(visibleByDefault);
+            configure.accept(spawned);
+        });
+        MenuMetrics.recordSpawn();
+        return new RenderHandle<>(this, type, entity.getEntityId(), entity);
+    }
+
+    @Override
+    public void teleport(RenderHandle<?> handle, TransformNode transform, int teleportDuration) {
+        Entity entity = handle.getEntity();
+        if (entity instanceof Display display && display.getTeleportDuration() != teleportDuration) {
+            display.setTeleportDuration(teleportDuration);
+        }
+        if (MenuScheduler.isFolia()) {
+            entity.teleportAsync(transform.toLocation());
+        } else {
+            entity.teleport(transform.toLocation());
+        }
+        MenuMetrics.recordTeleport();
+    }
+
+    @Override
+    public void setAppearance(RenderHandle<?> handle, float scale, float rotation, float opacity, int interpolationTicks) {
+        if (!(handle.getEntity() instanceof Display display)) return;
+        MenuMetrics.recordAppearanceUpdate();
+
+        display.setInterpolationDelay(0);
+        display.setInterpolationDuration(interpolationTicks);
+        display.setTransformation(new Transformation(
+                new Vector3f(),
+                new AxisAngle4f((float) Math.toRadians(rotation), 0, 1, 0),
+                new Vector3f(scale, scale, scale),
+                new AxisAngle4f()));
+
+        if (display instanceof TextDisplay textDisplay) {
+            // The client treats 0-3 as fully opaque, so fully transparent is clamped to 4
+            int alpha = Math.max(4, Math.min(255, Math.round(opacity * 255)));
+            textDisplay.setTextOpacity((byte) alpha);
+        }
+    }
+
+    @Override
+    public void setText(RenderHandle<?> handle, Component text) {
+        if (!(handle.getEntity() instanceof TextDisplay textDisplay)) return;
+        MenuMetrics.recordTextUpdate();
+        textDisplay.text(text);
+    }
+
+    @Override
+    public void setItem(RenderHandle<?> handle, ItemStack item) {
+        if (!(handle.getEntity() instanceof ItemDisplay itemDisplay)) return;
+        itemDisplay.setItemStack(item);
+    }
+
+    @Override
+    public void setTextStyle(RenderHandle<?> handle, TextStyle style) {
+        if (!(handle.getEntity() instanceof Display display)) return;
+        MenuMetrics.recordTextUpdate();
+        display.setBillboard(style.billboard());
+        if (display instanceof TextDisplay textDisplay) {
+            textDisplay.setAlignment(style.alignment());
+            textDisplay.setBackgroundColor(style.background());
+            textDisplay.setLineWidth(style.lineWidth());
+            textDisplay.setShadowed(style.shadowed());
+            textDisplay.setSeeThrough(style.seeThrough());
+        }
+    }
+
+    @Override
+    public void setVisibleByDefault(RenderHandle<?> handle, boolean visible) {
+        handle.getEntity().setVisibleByDefault(visible);
+    }
+
+    @Override
+    public void setViewerVisible(RenderHandle<?> handle, Player viewer, boolean visible) {
+        if (visible) {
+            viewer.showEntity(MenuScheduler.getPlugin(), handle.getEntity());
+        } else {
+            viewer.hideEntity(MenuScheduler.getPlugin(), handle.getEntity());
+        }
+    }
+
+    @Override
+    public void remove(RenderHandle<?> handle) {
+        EntityPool.release(handle.getEntity());
+        MenuMetrics.recordRemoval();
+    }
+}
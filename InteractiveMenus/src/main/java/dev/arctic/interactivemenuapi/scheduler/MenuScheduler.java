@@ -0,0 +1,510 @@
+package dev.arctic.interactivemenuapi.scheduler;
+
+import dev.arctic.interactivemenuapi.listeners.MenuChunkListener;
+import dev.arctic.interactivemenuapi.listeners.MenuInteractionListener;
+import dev.arctic.interactivemenuapi.listeners.OrphanReaperListener;
+import dev.arctic.interactivemenuapi.metrics.MenuMetrics;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.orphan.OrphanReaper;
+import dev.arctic.interactivemenuapi.pool.EntityPool;
+import dev.arctic.interactivemenuapi.registry.MenuSpatialIndex;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Central tick loop for every live {@link Menu}.
+ * A single repeating task drives anchor updates, division updates and timeout checks for all registered menus,
+ * instead of every menu scheduling its own timers.
+ *
+ * <p>Menus are spread over {@link #UPDATE_INTERVAL} buckets, so each tick only updates the menus whose turn it is.
+ * A menu joins the emptiest bucket when it registers and stays there until it unregisters, so its update phase
+ * never shifts when other menus come and go. Idle timeouts, overlay durations and delayed actions live in a shared
+ * {@link TimingWheel}, so expiring them costs nothing for menus that are not due.</p>
+ *
+ * <p>Due menus are updated in three phases: anchors and viewers are read on the main thread, transforms are computed
+ * (in parallel on the common ForkJoin pool once {@link #getParallelThreshold()} menus are due), and the changed
+ * teleports and appearances are then sent from the main thread in one batch.</p>
+ *
+ * <p>On Folia there is no main thread to drive a shared loop. Each menu instead gets its own task on the entity
+ * scheduler of its anchor, with its own timing wheel for idle timeouts and overlay timers, so menu updates run on
+ * whichever region thread owns the anchor and follow it when it moves into another region. Menus have to be
+ * created on the region thread that owns their root location. The shared wheel for tasks scheduled without a menu
+ * is advanced on the global region thread.</p>
+ */
+public final class MenuScheduler {
+
+    public static final int UPDATE_INTERVAL = 5;
+    public static final int CLEANUP_INTERVAL = 20;
+
+    //Registry
+    private static final List<List<Menu>> buckets = new ArrayList<>(UPDATE_INTERVAL); // Indexed by tick % UPDATE_INTERVAL
+    private static final Map<Menu, Slot> slots = new IdentityHashMap<>();
+    private static int menuCount;
+    private static final Map<UUID, Menu> menusById = new HashMap<>();
+
+    //Task
+    private static final boolean FOLIA = classExists("io.papermc.paper.threadedregions.RegionizedServer");
+    private static Plugin plugin;
+    private static final List<Listener> listeners = new ArrayList<>(); // Registered by start(), unregistered by shutdown()
+    private static volatile BukkitTask tickTask;
+    private static volatile ScheduledTask globalTask; // Folia only
+    private static final Map<Menu, RegionMenuTicker> regionTickers = new ConcurrentHashMap<>();
+    private static final Map<Menu, TimingWheel> parkedWheels = new ConcurrentHashMap<>(); // Timers of suspended Folia menus, never advanced
+    private static volatile long currentTick; // Also read by region threads on Folia
+    private static boolean detached;
+    private static final TimingWheel timingWheel = new TimingWheel();
+
+    //Two-phase update
+    private static final List<Menu> due = new ArrayList<>();
+    private static long[] dueNanos = new long[16];
+    private static int parallelThreshold = 64;
+
+    static {
+        for (int i = 0; i < UPDATE_INTERVAL; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    // Where a menu sits: its bucket never changes, its index in the bucket does when another menu leaves
+    private static final class Slot {
+        private final int bucket;
+        private int index;
+
+        private Slot(int bucket, int index) {
+            this.bucket = bucket;
+            this.index = index;
+        }
+    }
+
+    private MenuScheduler() {
+    }
+
+    /**
+     * Starts the shared tick loop, registers the built-in listeners for the given plugin and removes the menu entities
+     * left behind by the previous server session. Should be called from the plugin's onEnable, paired with
+     * {@link #shutdown()} in onDisable.
+     *
+     * <p>{@link #register(Menu)} still starts the scheduler lazily if this was never called, but by then chunks
+     * holding leftovers may already have loaded unchecked, so a warning is logged.</p>
+     *
+     * @param owningPlugin The plugin that owns the scheduled task.
+     */
+    public static synchronized void start(Plugin owningPlugin) {
+        if (isStarted()) return;
+        plugin = owningPlugin;
+        listeners.add(new MenuInteractionListener());
+        listeners.add(new OrphanReaperListener());
+        listeners.add(new MenuChunkListener());
+        for (Listener listener : listeners) {
+            Bukkit.getPluginManager().registerEvents(listener, plugin);
+        }
+        OrphanReaper.sweepAll(); // Leftovers from a crash or reload
+        timingWheel.schedule(1L, OrphanReaper::sweepAll); // Again once worlds loaded after a STARTUP plugin are there
+        if (FOLIA) {
+            globalTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, task -> globalTick(), 1L, 1L);
+            for (Menu menu : getMenus()) {
+                startRegionTicker(menu);
+            }
+        } else {
+            tickTask = Bukkit.getScheduler().runTaskTimer(plugin, MenuScheduler::tick, 1L, 1L);
+        }
+    }
+
+    public static boolean isFolia() {
+        return FOLIA;
+    }
+
+    private static boolean isStarted() {
+        return tickTask != null || globalTask != null;
+    }
+
+    /**
+     * Runs the scheduler without a Bukkit task, so menus can be created outside a running server.
+     * Menus register as usual, but nothing happens until {@link #tick()} is called by hand.
+     * Used by the benchmarks together with the RecordingRenderBackend.
+     */
+    public static void startDetached() {
+        if (isStarted()) return;
+        detached = true;
+    }
+
+    /**
+     * Cleans up every registered menu and stops the tick loop. Should be called from the plugin's onDisable.
+     */
+    public static void shutdown() {
+        for (Menu menu : getMenus()) {
+            menu.cleanup();
+        }
+        synchronized (buckets) {
+            buckets.forEach(List::clear);
+            slots.clear();
+            menuCount = 0;
+            menusById.clear();
+        }
+        MenuSpatialIndex.clear();
+        regionTickers.values().forEach(RegionMenuTicker::cancel);
+        regionTickers.clear();
+        parkedWheels.values().forEach(TimingWheel::clear);
+        parkedWheels.clear();
+        timingWheel.clear();
+        SpawnQueue.clear();
+        EntityPool.clearAll();
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        if (globalTask != null) {
+            globalTask.cancel();
+            globalTask = null;
+        }
+        // A reload calls start() again, which must not find the old listeners still registered
+        for (Listener listener : listeners) {
+            HandlerList.unregisterAll(listener);
+        }
+        listeners.clear();
+        plugin = null;
+        detached = false;
+    }
+
+    /**
+     * Adds a menu to the registry. Registering a menu twice has no effect.
+     *
+     * @param menu The menu to register.
+     */
+    public static void register(Menu menu) {
+        synchronized (buckets) {
+            if (slots.containsKey(menu)) return;
+            int emptiest = 0;
+            for (int i = 1; i < UPDATE_INTERVAL; i++) {
+                if (buckets.get(i).size() < buckets.get(emptiest).size()) emptiest = i;
+            }
+            List<Menu> bucket = buckets.get(emptiest);
+            slots.put(menu, new Slot(emptiest, bucket.size()));
+            bucket.add(menu);
+            menuCount++;
+            if (menu.getMenuUUID() != null) {
+                menusById.put(menu.getMenuUUID(), menu);
+            }
+        }
+        MenuSpatialIndex.add(menu);
+
+        if (!isStarted() && !detached) {
+            Plugin owner = plugin != null ? plugin : JavaPlugin.getProvidingPlugin(MenuScheduler.class);
+            owner.getLogger().warning("MenuScheduler was started by the first menu; call MenuScheduler.start(plugin) "
+                    + "in onEnable so leftover menu entities are removed at startup");
+            start(owner);
+        }
+        if (FOLIA && isStarted()) {
+            startRegionTicker(menu); // No-op if start() already picked it up
+        }
+    }
+
+    /**
+     * Removes a menu from the registry. The last menu of the same bucket takes over the freed index, so the bucket
+     * stays compact and no other menu changes bucket.
+     *
+     * @param menu The menu to unregister.
+     */
+    public static void unregister(Menu menu) {
+        synchronized (buckets) {
+            Slot slot = slots.remove(menu);
+            if (slot == null) return;
+            menuCount--;
+            if (menu.getMenuUUID() != null) {
+                menusById.remove(menu.getMenuUUID(), menu);
+            }
+
+            List<Menu> bucket = buckets.get(slot.bucket);
+            int last = bucket.size() - 1;
+            Menu moved = bucket.remove(last);
+            if (slot.index != last) {
+                bucket.set(slot.index, moved);
+                slots.get(moved).index = slot.index;
+            }
+        }
+        MenuSpatialIndex.remove(menu);
+
+        RegionMenuTicker ticker = regionTickers.remove(menu);
+        if (ticker != null) {
+            ticker.cancel();
+        }
+        TimingWheel parked = parkedWheels.remove(menu);
+        if (parked != null) {
+            parked.clear();
+        }
+    }
+
+    /**
+     * Sets how many menus have to be due in one tick before their transforms are computed in parallel
+     * on the common ForkJoin pool. Teleports are always sent from the main thread.
+     *
+     * @param threshold Minimum number of due menus, at least 1. Integer.MAX_VALUE keeps everything on the main thread.
+     */
+    public static void setParallelThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be at least 1");
+        }
+        parallelThreshold = threshold;
+    }
+
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public static Plugin getPlugin() {
+        return plugin;
+    }
+
+    public static boolean isRegistered(Menu menu) {
+        synchronized (buckets) {
+            return slots.containsKey(menu);
+        }
+    }
+
+    /**
+     * Stops scheduling work for a menu whose anchor chunk unloaded.
+     * Called by {@link Menu#suspend()}; the menu stays registered and indexed at its chunk in the
+     * {@link MenuSpatialIndex}, so its idle timeout keeps running and the chunk load finds it again.
+     * On Folia the menu's ticker stops with it; its pending timers, such as overlay durations, are parked with the
+     * ticks they had left and re-armed on the ticker that {@link #resume(Menu)} starts.
+     *
+     * @param menu The suspended menu.
+     */
+    public static void suspend(Menu menu) {
+        RegionMenuTicker ticker = regionTickers.remove(menu);
+        if (ticker != null) {
+            TimingWheel parked = new TimingWheel();
+            ticker.getTimingWheel().transferTo(parked);
+            parkedWheels.put(menu, parked);
+            ticker.cancel();
+        }
+    }
+
+    // Called by Menu.resume() once the anchor is back
+    public static void resume(Menu menu) {
+        if (FOLIA && isStarted() && isRegistered(menu)) {
+            startRegionTicker(menu);
+            TimingWheel parked = parkedWheels.remove(menu);
+            if (parked != null) {
+                parked.transferTo(getTimingWheel(menu));
+            }
+        }
+    }
+
+    /**
+     * Suspends every active menu anchored in a chunk that is about to unload.
+     * Only looks at the menus indexed in that chunk, so unloading unrelated chunks costs a map lookup.
+     *
+     * @param world  The chunk's world.
+     * @param chunkX The chunk X coordinate.
+     * @param chunkZ The chunk Z coordinate.
+     */
+    public static void suspendChunk(World world, int chunkX, int chunkZ) {
+        for (Menu menu : MenuSpatialIndex.getMenusInChunk(world, chunkX, chunkZ)) {
+            if (!menu.isSuspended()) {
+                menu.suspend();
+            }
+        }
+    }
+
+    // Resumes the menus suspended in a chunk that just loaded
+    public static void resumeChunk(World world, int chunkX, int chunkZ) {
+        for (Menu menu : MenuSpatialIndex.getMenusInChunk(world, chunkX, chunkZ)) {
+            if (menu.isSuspended()) {
+                menu.resume();
+            }
+        }
+    }
+
+    // The live menu with the given UUID, or null
+    public static Menu getMenu(UUID menuUUID) {
+        synchronized (buckets) {
+            return menusById.get(menuUUID);
+        }
+    }
+
+    // Snapshot of the live menus, bucket by bucket
+    public static List<Menu> getMenus() {
+        synchronized (buckets) {
+            List<Menu> snapshot = new ArrayList<>(menuCount);
+            for (List<Menu> bucket : buckets) {
+                snapshot.addAll(bucket);
+            }
+            return snapshot;
+        }
+    }
+
+    public static int getMenuCount() {
+        synchronized (buckets) {
+            return menuCount;
+        }
+    }
+
+    public static long getCurrentTick() {
+        return currentTick;
+    }
+
+    public static TimingWheel getTimingWheel() {
+        return timingWheel;
+    }
+
+    /**
+     * Returns the wheel that holds the timers of a menu: the shared one, or on Folia the menu's own wheel,
+     * which is advanced on the region thread that owns the menu.
+     *
+     * @param menu The menu.
+     * @return The wheel to schedule the menu's timers on.
+     */
+    public static TimingWheel getTimingWheel(Menu menu) {
+        if (FOLIA) {
+            RegionMenuTicker ticker = regionTickers.get(menu);
+            if (ticker != null) return ticker.getTimingWheel();
+            TimingWheel parked = parkedWheels.get(menu);
+            if (parked != null) return parked; // Suspended; armed on the next ticker
+        }
+        return timingWheel;
+    }
+
+    /**
+     * Runs a task after the given number of ticks on the shared timing wheel.
+     *
+     * @param delayTicks Ticks to wait, at least 1.
+     * @param task       The task to run.
+     * @return The timeout, which can be cancelled.
+     */
+    public static TimingWheel.Timeout runLater(long delayTicks, Runnable task) {
+        return timingWheel.schedule(delayTicks, task);
+    }
+
+    /**
+     * Runs a task for a menu after the given number of ticks, on the thread that updates the menu.
+     *
+     * @param menu       The menu the task belongs to.
+     * @param delayTicks Ticks to wait, at least 1.
+     * @param task       The task to run.
+     * @return The timeout, which can be cancelled.
+     */
+    public static TimingWheel.Timeout runLater(Menu menu, long delayTicks, Runnable task) {
+        return getTimingWheel(menu).schedule(delayTicks, task);
+    }
+
+    private static void startRegionTicker(Menu menu) {
+        RegionMenuTicker ticker = new RegionMenuTicker(menu);
+        if (regionTickers.putIfAbsent(menu, ticker) == null) {
+            ticker.start(plugin);
+        }
+    }
+
+    // Folia: the shared wheel and per-tick metrics, on the global region thread
+    private static void globalTick() {
+        currentTick++;
+        timingWheel.advance();
+        MenuMetrics.endTick(-1L);
+    }
+
+    private static boolean classExists(String name) {
+        try {
+            Class.forName(name);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Advances the loop by one tick. Called by the Bukkit task, or by hand when running detached.
+     */
+    public static void tick() {
+        currentTick++;
+        boolean timed = MenuMetrics.isEnabled();
+        long tickStart = timed ? System.nanoTime() : 0L;
+
+        updateDueMenus(timed);
+        long updateEnd = timed ? System.nanoTime() : 0L;
+
+        timingWheel.advance();
+        long timersEnd = timed ? System.nanoTime() : 0L;
+
+        SpawnQueue.tick();
+        long spawnEnd = timed ? System.nanoTime() : 0L;
+
+        if (currentTick % CLEANUP_INTERVAL == 0) {
+            EntityPool.tick(currentTick);
+        }
+        if (currentTick % OrphanReaper.SWEEP_INTERVAL == 0) {
+            OrphanReaper.sweepAll();
+        }
+
+        if (timed) {
+            MenuMetrics.recordUpdateLoop(updateEnd - tickStart);
+            MenuMetrics.recordTimers(timersEnd - updateEnd);
+            MenuMetrics.recordSpawnQueue(spawnEnd - timersEnd);
+            MenuMetrics.endTick(System.nanoTime() - tickStart);
+        } else {
+            MenuMetrics.endTick(-1L);
+        }
+    }
+
+    // Three phases: read anchors and viewers on the main thread, compute transforms (in parallel for large buckets),
+    // then send all teleports and appearance changes on the main thread
+    private static void updateDueMenus(boolean timed) {
+        List<Menu> bucket = buckets.get((int) (currentTick % UPDATE_INTERVAL));
+        int size = bucket.size();
+        if (size == 0) return;
+
+        due.clear();
+        if (timed && dueNanos.length < size) {
+            dueNanos = new long[size];
+        }
+
+        // Walk the bucket backwards so menus that clean themselves up mid-update do not shift unvisited slots
+        for (int i = size - 1; i >= 0; i--) {
+            if (i >= bucket.size()) continue;
+            Menu menu = bucket.get(i);
+            long start = timed ? System.nanoTime() : 0L;
+            if (menu.prepareUpdate()) {
+                if (timed) dueNanos[due.size()] = System.nanoTime() - start;
+                due.add(menu);
+            } else if (timed) {
+                menu.recordUpdateNanos(System.nanoTime() - start);
+            }
+        }
+
+        int count = due.size();
+        if (count == 0) return;
+
+        long[] nanos = timed ? dueNanos : null;
+        if (count >= parallelThreshold && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new TransformComputeTask(due, nanos, 0, count));
+        } else {
+            TransformComputeTask.computeRange(due, nanos, 0, count);
+        }
+
+        for (int i = 0; i < count; i++) {
+            Menu menu = due.get(i);
+            if (!timed) {
+                menu.applyTransforms();
+                continue;
+            }
+            long start = System.nanoTime();
+            menu.applyTransforms();
+            menu.recordUpdateNanos(dueNanos[i] + System.nanoTime() - start);
+        }
+        due.clear();
+    }
+}
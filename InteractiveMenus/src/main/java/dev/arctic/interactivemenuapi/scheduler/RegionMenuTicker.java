@@ -0,0 +1,86 @@
+package dev.arctic.interactivemenuapi.scheduler;
+
+import dev.arctic.interactivemenuapi.metrics.MenuMetrics;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Interaction;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Folia replacement for the shared tick loop, one per menu. Runs on the entity scheduler of the menu's anchor,
+ * which Folia moves along with the entity, so the menu is always updated by the region thread that owns it.
+ * Menus without an anchor are pinned to the region of their root location.
+ */
+final class RegionMenuTicker {
+
+    // Spreads menus of the same region over the update interval
+    private static final AtomicInteger nextPhase = new AtomicInteger();
+
+    private final Menu menu;
+    private final TimingWheel timingWheel = new TimingWheel();
+    private final int phase = nextPhase.getAndIncrement() % MenuScheduler.UPDATE_INTERVAL;
+    private volatile ScheduledTask task;
+    private volatile boolean cancelled;
+    private long ticks;
+
+    RegionMenuTicker(Menu menu) {
+        this.menu = menu;
+    }
+
+    TimingWheel getTimingWheel() {
+        return timingWheel;
+    }
+
+    void start(Plugin plugin) {
+        Interaction anchor = menu.getAnchorEntity();
+        if (anchor != null) {
+            // Null if the anchor is already gone
+            task = anchor.getScheduler().runAtFixedRate(plugin, scheduled -> tick(), this::onRetired, 1L, 1L);
+            if (task == null) {
+                onRetired();
+            }
+        } else if (menu.getRootLocation().getWorld() != null) {
+            task = Bukkit.getRegionScheduler().runAtFixedRate(plugin, menu.getRootLocation(), scheduled -> tick(), 1L, 1L);
+        }
+    }
+
+    void cancel() {
+        cancelled = true;
+        ScheduledTask current = task;
+        if (current != null) {
+            current.cancel();
+        }
+        timingWheel.clear(); // Lets the menu's timeouts be armed on its next ticker
+    }
+
+    private void tick() {
+        if (cancelled) return;
+        ticks++;
+
+        if ((ticks + phase) % MenuScheduler.UPDATE_INTERVAL == 0) {
+            if (MenuMetrics.isEnabled()) {
+                long start = System.nanoTime();
+                menu.update();
+                long nanos = System.nanoTime() - start;
+                menu.recordUpdateNanos(nanos);
+                MenuMetrics.recordUpdateLoop(nanos);
+            } else {
+                menu.update();
+            }
+        }
+
+        if (!cancelled) {
+            timingWheel.advance();
+        }
+    }
+
+    // The anchor was removed without the menu being suspended first; the menu cannot be updated anymore
+    private void onRetired() {
+        if (!cancelled && !menu.isSuspended()) {
+            menu.cleanup();
+        }
+    }
+}
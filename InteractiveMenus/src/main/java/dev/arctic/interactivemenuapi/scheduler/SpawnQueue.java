@@ -0,0 +1,60 @@
+package dev.arctic.interactivemenuapi.scheduler;
+
+import dev.arctic.interactivemenuapi.objects.Element;
+
+import java.util.ArrayDeque;
+
+/**
+ * Global queue of elements waiting to spawn their entities, drained by the {@link MenuScheduler} with a per-tick
+ * entity budget. Opening many menus at once spreads their spawns over several ticks instead of spiking one.
+ */
+public final class SpawnQueue {
+
+    private static final ArrayDeque<Element> pending = new ArrayDeque<>();
+    private static int entitiesPerTick = 24;
+
+    private SpawnQueue() {
+    }
+
+    public static void enqueue(Element element) {
+        // Folia has no shared tick to drain the queue; each region spawns its own menus right away
+        if (MenuScheduler.isFolia()) {
+            element.spawn();
+            return;
+        }
+        pending.addLast(element);
+    }
+
+    public static int size() {
+        return pending.size();
+    }
+
+    public static int getEntitiesPerTick() {
+        return entitiesPerTick;
+    }
+
+    public static void setEntitiesPerTick(int entitiesPerTick) {
+        if (entitiesPerTick < 1) {
+            throw new IllegalArgumentException("Spawn budget must be at least 1 entity per tick");
+        }
+        SpawnQueue.entitiesPerTick = entitiesPerTick;
+    }
+
+    /**
+     * Spawns queued elements until this tick's budget is used. An element is never split across ticks,
+     * so a tick may go over budget by at most one element.
+     */
+    public static void tick() {
+        int budget = entitiesPerTick;
+        Element element;
+        while (budget > 0 && (element = pending.pollFirst()) != null) {
+            if (element.isRemoved() || element.isSpawned()) continue;
+            element.spawn();
+            budget -= element.getEntityCount();
+        }
+    }
+
+    public static void clear() {
+        pending.clear();
+    }
+}
@@ -0,0 +1,266 @@
+package dev.arctic.interactivemenuapi.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Tick-driven hierarchical timing wheel holding every pending deadline of the library
+ * (menu idle timeouts, overlay durations, delayed actions).
+ *
+ * <p>Each of the {@link #LEVELS} levels has {@link #SLOTS} slots; level {@code n} covers {@code SLOTS^(n+1)} ticks.
+ * Entries are intrusive linked-list nodes, so scheduling, re-arming and cancelling a {@link Timeout} is O(1)
+ * and re-arming an existing timeout allocates nothing. Advancing the wheel costs O(1) plus the entries that expire
+ * or cascade down a level on that tick.</p>
+ *
+ * <p>Not thread safe; the wheel is advanced and mutated from the thread that drives the {@link MenuScheduler}.</p>
+ */
+public final class TimingWheel {
+
+    public static final int SLOT_BITS = 6;
+    public static final int SLOTS = 1 << SLOT_BITS;
+    public static final int LEVELS = 4;
+
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+    private static final int INACTIVE = -1;
+    private static final int PROCESSING = LEVELS;
+    private static final Logger LOGGER = Logger.getLogger(TimingWheel.class.getName());
+
+    private final Timeout[][] slots = new Timeout[LEVELS][SLOTS];
+    private Timeout processing;
+    private long currentTick;
+    private int size;
+
+    /**
+     * A pending deadline. Can be re-armed any number of times through {@link #schedule(Timeout, long)}.
+     */
+    public static final class Timeout {
+
+        private final Runnable task;
+        private TimingWheel wheel;
+        private long deadline;
+        private int level = INACTIVE;
+        private int slot;
+        private Timeout prev;
+        private Timeout next;
+
+        public Timeout(Runnable task) {
+            this.task = task;
+        }
+
+        public boolean isActive() {
+            return level != INACTIVE;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public void cancel() {
+            if (wheel != null && isActive()) {
+                wheel.unlink(this);
+            }
+        }
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules a new task.
+     *
+     * @param delayTicks Ticks until the task runs, at least 1.
+     * @param task       The task to run.
+     * @return The timeout, which can be cancelled or re-armed.
+     */
+    public Timeout schedule(long delayTicks, Runnable task) {
+        Timeout timeout = new Timeout(task);
+        schedule(timeout, delayTicks);
+        return timeout;
+    }
+
+    /**
+     * Arms or re-arms an existing timeout without allocating.
+     *
+     * @param timeout    The timeout to arm. If it is already pending, its old deadline is dropped.
+     * @param delayTicks Ticks until the task runs, at least 1.
+     */
+    public void schedule(Timeout timeout, long delayTicks) {
+        if (timeout.wheel != null && timeout.wheel != this && timeout.isActive()) {
+            throw new IllegalArgumentException("Timeout is pending on another wheel");
+        }
+        if (timeout.isActive()) {
+            unlink(timeout);
+        }
+
+        timeout.wheel = this;
+        timeout.deadline = currentTick + Math.max(1L, delayTicks);
+        insert(timeout);
+    }
+
+    /**
+     * Moves the wheel forward by one tick and runs every task whose deadline has been reached.
+     */
+    public void advance() {
+        currentTick++;
+
+        // Pull entries of higher levels whose window starts now down towards level 0, top level first
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                cascade(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+        }
+
+        // Detach the due slot so tasks that re-arm themselves land in the wheel, not in the list being drained
+        int slot = (int) (currentTick & SLOT_MASK);
+        Timeout head = slots[0][slot];
+        slots[0][slot] = null;
+        for (Timeout t = head; t != null; t = t.next) {
+            t.level = PROCESSING;
+            size--;
+        }
+        processing = head;
+
+        Timeout timeout;
+        while ((timeout = processing) != null) {
+            unlink(timeout);
+            if (timeout.deadline > currentTick) {
+                insert(timeout);
+                continue;
+            }
+
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Timing wheel task threw an exception", e);
+            }
+        }
+    }
+
+    /**
+     * Drops every pending timeout without running it.
+     */
+    public void clear() {
+        for (Timeout[] level : slots) {
+            for (Timeout head : level) {
+                while (head != null) {
+                    Timeout next = head.next;
+                    reset(head);
+                    head.wheel = null; // Free to be armed on another wheel
+                    head = next;
+                }
+            }
+            Arrays.fill(level, null);
+        }
+        while (processing != null) {
+            Timeout next = processing.next;
+            reset(processing);
+            processing.wheel = null;
+            processing = next;
+        }
+        size = 0;
+    }
+
+    /**
+     * Moves every pending timeout to another wheel, keeping the ticks it had left, e.g. while the thread that
+     * advanced this wheel stops doing so. The moved timeouts can still be cancelled.
+     *
+     * @param target The wheel to arm the timeouts on.
+     */
+    public void transferTo(TimingWheel target) {
+        if (target == this) return;
+        List<Timeout> pending = new ArrayList<>(size);
+        for (Timeout[] level : slots) {
+            for (Timeout head : level) {
+                for (Timeout t = head; t != null; t = t.next) {
+                    pending.add(t);
+                }
+            }
+        }
+        for (Timeout t = processing; t != null; t = t.next) {
+            pending.add(t);
+        }
+
+        long[] remaining = new long[pending.size()];
+        for (int i = 0; i < remaining.length; i++) {
+            remaining[i] = pending.get(i).deadline - currentTick;
+        }
+        clear();
+        for (int i = 0; i < remaining.length; i++) {
+            target.schedule(pending.get(i), remaining[i]);
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout timeout = slots[level][slot];
+        slots[level][slot] = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            size--;
+            insert(timeout);
+            timeout = next;
+        }
+    }
+
+    private void insert(Timeout timeout) {
+        long delta = timeout.deadline - currentTick;
+        long target = delta > MAX_DELAY ? currentTick + MAX_DELAY : timeout.deadline;
+
+        int level = 0;
+        int slot;
+        if (delta <= 0) {
+            slot = (int) (currentTick & SLOT_MASK);
+        } else {
+            long span = Math.min(delta, MAX_DELAY);
+            while (level < LEVELS - 1 && span >= (1L << (SLOT_BITS * (level + 1)))) {
+                level++;
+            }
+            slot = (int) ((target >>> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = slots[level][slot];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        slots[level][slot] = timeout;
+        size++;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else if (timeout.level == PROCESSING) {
+            processing = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+
+        // Entries in the processing list were already taken out of the count when it was detached
+        if (timeout.level != PROCESSING) {
+            size--;
+        }
+        reset(timeout);
+    }
+
+    private static void reset(Timeout timeout) {
+        timeout.level = INACTIVE;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+}
@@ -0,0 +1,52 @@
+package dev.arctic.interactivemenuapi.scheduler;
+
+import dev.arctic.interactivemenuapi.objects.Menu;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs {@link Menu#computeTransforms()} for a range of due menus on a ForkJoin pool, splitting the range in halves.
+ * Each menu is computed by exactly one worker and only touches its own transform nodes, so no locking is needed;
+ * the main thread waits for the whole task before applying the results.
+ */
+final class TransformComputeTask extends RecursiveAction {
+
+    // Below this many menus a range is computed directly instead of being split further
+    private static final int LEAF_SIZE = 16;
+
+    private final List<Menu> menus;
+    private final long[] nanos; // Per-menu compute time, or null if timing is off
+    private final int from;
+    private final int to;
+
+    TransformComputeTask(List<Menu> menus, long[] nanos, int from, int to) {
+        this.menus = menus;
+        this.nanos = nanos;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= LEAF_SIZE) {
+            computeRange(menus, nanos, from, to);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new TransformComputeTask(menus, nanos, from, middle), new TransformComputeTask(menus, nanos, middle, to));
+    }
+
+    static void computeRange(List<Menu> menus, long[] nanos, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Menu menu = menus.get(i);
+            if (nanos == null) {
+                menu.computeTransforms();
+            } else {
+                long start = System.nanoTime();
+                menu.computeTransforms();
+                nanos[i] += System.nanoTime() - start;
+            }
+        }
+    }
+}
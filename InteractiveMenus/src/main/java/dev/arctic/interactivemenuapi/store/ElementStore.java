@@ -0,0 +1,259 @@
+package dev.arctic.interactivemenuapi.store;
+
+import dev.arctic.interactivemenuapi.objects.Element;
+import dev.arctic.interactivemenuapi.transform.TransformNode;
+
+import java.util.Arrays;
+
+/**
+ * Compact storage for the positions of a division's elements, kept in parallel primitive arrays instead of a
+ * transform node per element. Used by divisions with compact storage enabled.
+ *
+ * <p>Elements push their local offset into the store whenever it changes, which sets a bit in a dirty bitset.
+ * {@link #compute(TransformNode, boolean)} then works on the arrays only: when the division moved, every world
+ * position is recomputed in one straight loop the JIT can vectorize; otherwise only the dirty bits are visited,
+ * 64 elements per word. Positions that changed set a bit in a second bitset, which the element takes when it sends
+ * its teleport, so computing never calls back into the element objects.</p>
+ *
+ * <p>While attached, an element has no transform node of its own; it reads its slot through
+ * {@link #fill(int, TransformNode)}, which reuses one node per store.</p>
+ *
+ * <p>Not thread-safe; a store belongs to one division and is used wherever that division is computed.</p>
+ */
+public final class ElementStore {
+
+    private Element[] handles = new Element[0];
+    private double[] localX = new double[0], localY = new double[0], localZ = new double[0];
+    private double[] worldX = new double[0], worldY = new double[0], worldZ = new double[0];
+    private long[] dirty = new long[0]; // Local offset changed since the last compute
+    private long[] moved = new long[0]; // World position changed since the element last teleported
+    private int size;
+    private boolean allDirty;
+    private long syncedVersion = -1;
+    private final TransformNode scratch = new TransformNode(null);
+
+    /**
+     * Rebuilds the arrays if the division's elements were added, removed or replaced since the last call.
+     * Elements that stay keep their slot's state under their new index; elements that left take their position back.
+     *
+     * @param elements The division's elements.
+     * @return True if the store was rebuilt.
+     */
+    public boolean sync(SnapshotList<Element> elements) {
+        long version = elements.getVersion();
+        if (version == syncedVersion) return false;
+        syncedVersion = version;
+
+        SnapshotList.Snapshot<Element> current = elements.snapshot();
+        int count = current.size();
+
+        // Old slot of every element that stays; -1 for new elements, -2 for repeated entries of one element
+        int[] previous = new int[count];
+        boolean[] kept = new boolean[size];
+        for (int i = 0; i < count; i++) {
+            int slot = current.get(i).getStoreIndex(this);
+            if (slot < 0) {
+                previous[i] = -1;
+            } else if (kept[slot]) {
+                previous[i] = -2;
+            } else {
+                kept[slot] = true;
+                previous[i] = slot;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (!kept[i]) {
+                handles[i].detachFromStore();
+            }
+        }
+
+        double[] oldLocalX = localX, oldLocalY = localY, oldLocalZ = localZ;
+        double[] oldWorldX = worldX, oldWorldY = worldY, oldWorldZ = worldZ;
+        long[] oldMoved = moved;
+        allocate(count);
+
+        for (int i = 0; i < count; i++) {
+            int slot = previous[i];
+            if (slot == -2) continue;
+            Element element = current.get(i);
+            if (slot == -1 && element.getStoreIndex(this) >= 0) continue; // New, but already attached by this pass
+            int index = size++;
+            handles[index] = element;
+            if (slot >= 0) {
+                localX[index] = oldLocalX[slot];
+                localY[index] = oldLocalY[slot];
+                localZ[index] = oldLocalZ[slot];
+                worldX[index] = oldWorldX[slot];
+                worldY[index] = oldWorldY[slot];
+                worldZ[index] = oldWorldZ[slot];
+                if ((oldMoved[slot >>> 6] & (1L << slot)) != 0L) {
+                    moved[index >>> 6] |= 1L << index;
+                }
+                element.moveInStore(index);
+            } else {
+                element.detachFromStore(); // In case it moved here from another division
+                element.attachToStore(this, index);
+            }
+        }
+        allDirty = true;
+        return true;
+    }
+
+    // False once elements were added, removed or replaced since the last sync
+    public boolean isSynced(SnapshotList<Element> elements) {
+        return elements.getVersion() == syncedVersion;
+    }
+
+    // Called by an element joining the store, with the position it had on its own
+    public void seed(int index, double localX, double localY, double localZ,
+                     double worldX, double worldY, double worldZ, boolean moved) {
+        this.localX[index] = localX;
+        this.localY[index] = localY;
+        this.localZ[index] = localZ;
+        this.worldX[index] = worldX;
+        this.worldY[index] = worldY;
+        this.worldZ[index] = worldZ;
+        if (moved) {
+            this.moved[index >>> 6] |= 1L << index;
+        }
+    }
+
+    // Called by elements whenever their offset or animation offset changes
+    public void setLocal(int index, double x, double y, double z) {
+        if (x == localX[index] && y == localY[index] && z == localZ[index]) return;
+        localX[index] = x;
+        localY[index] = y;
+        localZ[index] = z;
+        dirty[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Brings every element's world position up to date and marks the ones that changed as moved.
+     *
+     * @param parent      The division's transform, already recomputed.
+     * @param parentMoved True if the division's world transform changed, so every element moved with it.
+     * @return True if any element moved.
+     */
+    public boolean compute(TransformNode parent, boolean parentMoved) {
+        double parentX = parent.getWorldX();
+        double parentY = parent.getWorldY();
+        double parentZ = parent.getWorldZ();
+
+        if (parentMoved) {
+            allDirty = false;
+            Arrays.fill(dirty, 0L);
+            for (int i = 0; i < size; i++) {
+                worldX[i] = parentX + localX[i];
+                worldY[i] = parentY + localY[i];
+                worldZ[i] = parentZ + localZ[i];
+            }
+            Arrays.fill(moved, -1L); // Bits past the size are never read
+            return size > 0;
+        }
+
+        boolean changed = false;
+        if (allDirty) {
+            allDirty = false;
+            Arrays.fill(dirty, 0L);
+            for (int i = 0; i < size; i++) {
+                changed |= update(i, parentX, parentY, parentZ);
+            }
+            return changed;
+        }
+
+        for (int word = 0; word < dirty.length; word++) {
+            long bits = dirty[word];
+            if (bits == 0L) continue;
+            dirty[word] = 0L;
+            while (bits != 0L) {
+                int i = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                changed |= update(i, parentX, parentY, parentZ);
+            }
+        }
+        return changed;
+    }
+
+    // Recomputes a single element, for elements that update themselves outside the division's pass
+    public boolean computeOne(int index, TransformNode parent) {
+        dirty[index >>> 6] &= ~(1L << index);
+        update(index, parent.getWorldX(), parent.getWorldY(), parent.getWorldZ());
+        return (moved[index >>> 6] & (1L << index)) != 0L;
+    }
+
+    // True once if the element moved since it last took the flag; the element then sends its teleport
+    public boolean takeMoved(int index) {
+        long bit = 1L << index;
+        int word = index >>> 6;
+        if ((moved[word] & bit) == 0L) return false;
+        moved[word] &= ~bit;
+        return true;
+    }
+
+    /**
+     * Fills the store's shared node with a slot's world transform, so it can be spawned or teleported at.
+     * The node is overwritten by the next call; copy it with toLocation() to keep it.
+     *
+     * @param index  The element's slot.
+     * @param parent The division's transform, for world, yaw and pitch.
+     * @return The shared node.
+     */
+    public TransformNode fill(int index, TransformNode parent) {
+        scratch.setWorldTransform(parent.getWorld(), worldX[index], worldY[index], worldZ[index],
+                parent.getWorldYaw(), parent.getWorldPitch());
+        return scratch;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getWorldX(int index) {
+        return worldX[index];
+    }
+
+    public double getWorldY(int index) {
+        return worldY[index];
+    }
+
+    public double getWorldZ(int index) {
+        return worldZ[index];
+    }
+
+    // Hands every element its position back, e.g. when the division cleans up or leaves compact mode
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            if (handles[i].getStoreIndex(this) == i) {
+                handles[i].detachFromStore();
+            }
+        }
+        allocate(0);
+        syncedVersion = -1;
+    }
+
+    private boolean update(int i, double parentX, double parentY, double parentZ) {
+        double x = parentX + localX[i];
+        double y = parentY + localY[i];
+        double z = parentZ + localZ[i];
+        if (x == worldX[i] && y == worldY[i] && z == worldZ[i]) return false;
+        worldX[i] = x;
+        worldY[i] = y;
+        worldZ[i] = z;
+        moved[i >>> 6] |= 1L << i;
+        return true;
+    }
+
+    // Fresh arrays for a rebuild; the old ones are still read while slots are carried over
+    private void allocate(int capacity) {
+        handles = new Element[capacity];
+        localX = new double[capacity];
+        localY = new double[capacity];
+        localZ = new double[capacity];
+        worldX = new double[capacity];
+        worldY = new double[capacity];
+        worldZ = new double[capacity];
+        dirty = new long[(capacity + 63) >>> 6];
+        moved = new long[(capacity + 63) >>> 6];
+        size = 0;
+    }
+}
@@ -0,0 +1,324 @@
+package dev.arctic.interactivemenuapi.store;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * List of menu parts that is read lock-free by the tick loop and written in batches.
+ * Every write publishes one immutable snapshot; iterators and {@link #forEach(Consumer)} see the snapshot that was
+ * current when they started, like a CopyOnWriteArrayList, but without copying the whole array on every add.
+ *
+ * <ul>
+ *     <li>{@link #add(Object)} appends in place when there is room, since no published snapshot reads past its own
+ *     size, so building a list element by element is amortized O(1) per add instead of O(n)</li>
+ *     <li>{@link #addAll(Collection)}, {@link #replaceAll(Collection)} and {@link #mutate(Consumer)} copy at most once
+ *     per batch, however many entries they change</li>
+ *     <li>Every other write copies the array once</li>
+ * </ul>
+ *
+ * <p>Hot loops should read {@link #snapshot()} once and index into it, or use {@link #forEach(Consumer)}; the
+ * enhanced for loop allocates an iterator per pass.</p>
+ *
+ * <p>Writes are synchronized, so they are safe from any thread, but are expected to come from the thread that owns
+ * the menu.</p>
+ *
+ * @param <E> The entry type.
+ */
+public final class SnapshotList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * The entries of the list at one point in time, for indexed loops on hot paths: reading it allocates nothing,
+     * unlike the iterator, and it never changes, whatever is written to the list afterwards.
+     *
+     * @param <E> The entry type.
+     */
+    public static final class Snapshot<E> {
+
+        private final Object[] array;
+        private final int size;
+
+        private Snapshot(Object[] array, int size) {
+            this.array = array;
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) array[index];
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final Snapshot EMPTY = new Snapshot<>(new Object[0], 0);
+
+    private volatile Snapshot<E> snapshot = empty();
+    private volatile long version; // Incremented by every write
+
+    public SnapshotList() {
+    }
+
+    public SnapshotList(Collection<? extends E> entries) {
+        Object[] array = entries.toArray();
+        snapshot = new Snapshot<>(array, array.length);
+    }
+
+    //Reads, lock-free on the current snapshot
+
+    // The current entries; loop over this instead of the list where the iterator's allocation matters
+    public Snapshot<E> snapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public E get(int index) {
+        return snapshot.get(index);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotIterator<>(snapshot);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Snapshot<E> current = snapshot;
+        Object[] array = current.array;
+        for (int i = 0, size = current.size; i < size; i++) {
+            action.accept((E) array[i]);
+        }
+    }
+
+    // Changes whenever the entries may have changed, so callers can cache work derived from them
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Snapshot<E> current = snapshot;
+        return Arrays.copyOf(current.array, current.size);
+    }
+
+    //Writes, one published snapshot each
+
+    @Override
+    public synchronized boolean add(E entry) {
+        Snapshot<E> current = snapshot;
+        Object[] array = current.array;
+        int size = current.size;
+        if (size == array.length) {
+            array = Arrays.copyOf(array, Math.max(8, size + (size >> 1)));
+        }
+        array[size] = entry; // Beyond the size of every published snapshot sharing this array
+        publish(new Snapshot<>(array, size + 1));
+        return true;
+    }
+
+    @Override
+    public synchronized void add(int index, E entry) {
+        Snapshot<E> current = snapshot;
+        int size = current.size;
+        Objects.checkIndex(index, size + 1);
+        Object[] array = new Object[Math.max(8, size + 1 + (size >> 1))];
+        System.arraycopy(current.array, 0, array, 0, index);
+        array[index] = entry;
+        System.arraycopy(current.array, index, array, index + 1, size - index);
+        publish(new Snapshot<>(array, size + 1));
+    }
+
+    @Override
+    public synchronized boolean addAll(Collection<? extends E> entries) {
+        Object[] added = entries.toArray();
+        if (added.length == 0) return false;
+        Snapshot<E> current = snapshot;
+        Object[] array = current.array;
+        int size = current.size;
+        if (size + added.length > array.length) {
+            array = Arrays.copyOf(array, Math.max(size + added.length, size + (size >> 1)));
+        }
+        System.arraycopy(added, 0, array, size, added.length);
+        publish(new Snapshot<>(array, size + added.length));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addAll(int index, Collection<? extends E> entries) {
+        List<E> copy = copy();
+        boolean changed = copy.addAll(index, entries);
+        publishCopy(copy);
+        return changed;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized E set(int index, E entry) {
+        Snapshot<E> current = snapshot;
+        Objects.checkIndex(index, current.size);
+        Object[] array = Arrays.copyOf(current.array, current.size);
+        E previous = (E) array[index];
+        array[index] = entry;
+        publish(new Snapshot<>(array, array.length));
+        return previous;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized E remove(int index) {
+        Snapshot<E> current = snapshot;
+        int size = current.size;
+        Objects.checkIndex(index, size);
+        E removed = (E) current.array[index];
+        Object[] array = new Object[size - 1];
+        System.arraycopy(current.array, 0, array, 0, index);
+        System.arraycopy(current.array, index + 1, array, index, size - index - 1);
+        publish(new Snapshot<>(array, array.length));
+        return removed;
+    }
+
+    @Override
+    public synchronized boolean remove(Object entry) {
+        int index = indexOf(entry);
+        if (index < 0) return false;
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean removeIf(Predicate<? super E> filter) {
+        List<E> copy = copy();
+        if (!copy.removeIf(filter)) return false;
+        publishCopy(copy);
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> entries) {
+        return removeIf(entries::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> entries) {
+        return removeIf(entry -> !entries.contains(entry));
+    }
+
+    @Override
+    public synchronized void clear() {
+        publish(empty());
+    }
+
+    @Override
+    public synchronized void replaceAll(UnaryOperator<E> operator) {
+        List<E> copy = copy();
+        copy.replaceAll(operator);
+        publishCopy(copy);
+    }
+
+    @Override
+    public synchronized void sort(Comparator<? super E> comparator) {
+        List<E> copy = copy();
+        copy.sort(comparator);
+        publishCopy(copy);
+    }
+
+    /**
+     * Replaces every entry at once. Readers see either the old or the new entries, never a mix.
+     *
+     * @param entries The new entries.
+     */
+    public synchronized void replaceAll(Collection<? extends E> entries) {
+        Object[] array = entries.toArray();
+        publish(array.length == 0 ? empty() : new Snapshot<>(array, array.length));
+    }
+
+    /**
+     * Applies any number of changes to a private copy and publishes it as one snapshot.
+     * The copy must not escape the callback, and the callback must not write to this list directly.
+     *
+     * <pre>{@code
+     * division.getElements().mutate(elements -> {
+     *     elements.removeIf(element -> element instanceof OverlayElement);
+     *     elements.addAll(newButtons);
+     * });
+     * }</pre>
+     *
+     * @param edits Changes to apply to the copy.
+     */
+    public synchronized void mutate(Consumer<List<E>> edits) {
+        List<E> copy = copy();
+        edits.accept(copy);
+        publishCopy(copy);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<E> copy() {
+        Snapshot<E> current = snapshot;
+        List<E> copy = new ArrayList<>(current.size + 8);
+        for (int i = 0; i < current.size; i++) {
+            copy.add((E) current.array[i]);
+        }
+        return copy;
+    }
+
+    private void publishCopy(List<E> entries) {
+        Object[] array = entries.toArray();
+        publish(array.length == 0 ? empty() : new Snapshot<>(array, array.length));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Snapshot<E> empty() {
+        return EMPTY;
+    }
+
+    private void publish(Snapshot<E> next) {
+        version++; // Only written under the lock
+        snapshot = next;
+    }
+
+    private static final class SnapshotIterator<E> implements Iterator<E> {
+
+        private final Object[] array;
+        private final int size;
+        private int cursor;
+
+        private SnapshotIterator(Snapshot<E> snapshot) {
+            this.array = snapshot.array;
+            this.size = snapshot.size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            return (E) array[cursor++];
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package dev.arctic.interactivemenuapi.template;
+
+import dev.arctic.interactivemenuapi.animation.AnimationType;
+import dev.arctic.interactivemenuapi.animation.MotionMode;
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Element;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled division definition, produced by {@code DivisionBuilder.compile(...)}.
+ */
+public record DivisionTemplate(Vector offset, AnimationType animationType, double animationStepper,
+                               MotionMode motionMode, int interpolationTicks, boolean compactStorage,
+                               List<ElementTemplate> elements) {
+
+    public DivisionTemplate {
+        offset = offset.clone();
+        elements = List.copyOf(elements);
+    }
+
+    public Division instantiate(Menu menu) {
+        Location initialLocation = menu.getRootNode().toLocation().add(offset);
+        Division division = new Division(menu, initialLocation, offset.clone(), animationType, animationStepper);
+        division.setMotionMode(motionMode);
+        division.setInterpolationTicks(interpolationTicks);
+
+        List<Element> created = new ArrayList<>(elements.size());
+        for (ElementTemplate template : elements) {
+            created.add(template.create(menu, division));
+        }
+        division.getElements().addAll(created);
+        division.setCompactStorage(compactStorage);
+        return division;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.arctic.interactivemenuapi.template;
+
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Element;
+import dev.arctic.interactivemenuapi.objects.Menu;
+
+/**
+ * Compiled element definition, produced by an element builder's {@code compile()}.
+ */
+@FunctionalInterface
+public interface ElementTemplate {
+
+    /**
+     * Creates a new element from this template.
+     *
+     * @param menu     The menu being instantiated.
+     * @param division The division the element belongs to.
+     * @return The new element.
+     */
+    Element create(Menu menu, Division division);
+}
@@ -0,0 +1,56 @@
+package dev.arctic.interactivemenuapi.template;
+
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A menu layout compiled once from the builders and instantiated any number of times.
+ * Instances defer their entity spawns to the {@link dev.arctic.interactivemenuapi.scheduler.SpawnQueue}, so opening
+ * many menus at once is spread over several ticks.
+ *
+ * <p>Example Usage:</p>
+ * <pre>
+ * {@code
+ * MenuTemplate shopPage = new MenuBuilder().setTimeoutSeconds(30).compile(
+ *         new DivisionBuilder().setOffset(new Vector(0, 1, 0)).compile(
+ *                 new TextElementBuilder().setOffset(new Vector(0, 0.5, 0)).compile(),
+ *                 new ToggleElementBuilder().setOffset(new Vector(0, 0, 0)).compile()));
+ *
+ * Menu menu = shopPage.instantiate(player.getLocation());
+ * }
+ * </pre>
+ */
+public final class MenuTemplate {
+
+    private final int timeoutSeconds;
+    private final List<DivisionTemplate> divisions;
+
+    public MenuTemplate(int timeoutSeconds, List<DivisionTemplate> divisions) {
+        this.timeoutSeconds = timeoutSeconds;
+        this.divisions = List.copyOf(divisions);
+    }
+
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    public List<DivisionTemplate> getDivisions() {
+        return divisions;
+    }
+
+    public Menu instantiate(Location rootLocation) {
+        Menu menu = new Menu(rootLocation.clone(), timeoutSeconds);
+        menu.setDeferSpawning(true);
+
+        List<Division> instantiated = new ArrayList<>(divisions.size());
+        for (DivisionTemplate template : divisions) {
+            instantiated.add(template.instantiate(menu));
+        }
+        menu.getDivisions().addAll(instantiated);
+        return menu;
+    }
+}
@@ -0,0 +1,69 @@
+package dev.arctic.interactivemenuapi.text;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache from markup strings to parsed {@link Component}s.
+ * Live-updating menus usually render the same few strings over and over (a timer, a balance); with the cache,
+ * the same string yields the same Component instance, so parsing is skipped and elements detect the unchanged text
+ * with an identity check before falling back to equals.
+ *
+ * <p>Least recently used entries are dropped once {@link #MAX_ENTRIES} is reached. Thread safe.</p>
+ */
+public final class TextCache {
+
+    public static final int MAX_ENTRIES = 1024;
+
+    private static final Map<String, Component> miniMessageCache = lruMap();
+    private static final Map<String, Component> legacyCache = lruMap();
+
+    private TextCache() {
+    }
+
+    /**
+     * Parses MiniMessage markup, for example {@code "<gold>Balance: <white>100"}.
+     *
+     * @param markup The MiniMessage string.
+     * @return The cached component.
+     */
+    public static Component miniMessage(String markup) {
+        synchronized (miniMessageCache) {
+            return miniMessageCache.computeIfAbsent(markup, MiniMessage.miniMessage()::deserialize);
+        }
+    }
+
+    /**
+     * Parses legacy ampersand color codes, for example {@code "&6Balance: &f100"}.
+     *
+     * @param legacyText The legacy string.
+     * @return The cached component.
+     */
+    public static Component legacy(String legacyText) {
+        synchronized (legacyCache) {
+            return legacyCache.computeIfAbsent(legacyText, LegacyComponentSerializer.legacyAmpersand()::deserialize);
+        }
+    }
+
+    public static void clear() {
+        synchronized (miniMessageCache) {
+            miniMessageCache.clear();
+        }
+        synchronized (legacyCache) {
+            legacyCache.clear();
+        }
+    }
+
+    private static Map<String, Component> lruMap() {
+        return new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Component> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+}
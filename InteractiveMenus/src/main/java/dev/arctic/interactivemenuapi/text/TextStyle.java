@@ -0,0 +1,48 @@
+package dev.arctic.interactivemenuapi.text;
+
+import org.bukkit.Color;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.TextDisplay;
+
+/**
+ * How an element's text display renders its text. Immutable, so elements can compare the style they last sent
+ * with a single equals call.
+ *
+ * @param alignment  Alignment of multi-line text.
+ * @param background Background color, or null for the client default.
+ * @param lineWidth  Maximum line width in pixels before the text wraps.
+ * @param billboard  Whether the text turns to face the viewer.
+ * @param shadowed   Whether the text has a shadow.
+ * @param seeThrough Whether the text is visible through blocks.
+ */
+public record TextStyle(TextDisplay.TextAlignment alignment, Color background, int lineWidth,
+                        Display.Billboard billboard, boolean shadowed, boolean seeThrough) {
+
+    // What a freshly spawned text display looks like
+    public static final TextStyle DEFAULT = new TextStyle(TextDisplay.TextAlignment.CENTER, null, 200,
+            Display.Billboard.FIXED, false, false);
+
+    public TextStyle withAlignment(TextDisplay.TextAlignment alignment) {
+        return new TextStyle(alignment, background, lineWidth, billboard, shadowed, seeThrough);
+    }
+
+    public TextStyle withBackground(Color background) {
+        return new TextStyle(alignment, background, lineWidth, billboard, shadowed, seeThrough);
+    }
+
+    public TextStyle withLineWidth(int lineWidth) {
+        return new TextStyle(alignment, background, lineWidth, billboard, shadowed, seeThrough);
+    }
+
+    public TextStyle withBillboard(Display.Billboard billboard) {
+        return new TextStyle(alignment, background, lineWidth, billboard, shadowed, seeThrough);
+    }
+
+    public TextStyle withShadowed(boolean shadowed) {
+        return new TextStyle(alignment, background, lineWidth, billboard, shadowed, seeThrough);
+    }
+
+    public TextStyle withSeeThrough(boolean seeThrough) {
+        return new TextStyle(alignment, background, lineWidth, billboard, shadowed, seeThrough);
+    }
+}
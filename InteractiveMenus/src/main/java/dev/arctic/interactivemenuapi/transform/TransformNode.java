@@ -0,0 +1,169 @@
+package dev.arctic.interactivemenuapi.transform;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * Position of a menu, division or element, kept as primitive local and world coordinates.
+ * A node's world transform is its parent's world transform plus its local offset; yaw and pitch are added the same way.
+ *
+ * <p>{@link #recompute()} only does work when the local transform or the parent changed since the last call, and
+ * never allocates. {@link Location} objects are only created by {@link #toLocation()} at the point an entity is
+ * spawned or teleported.</p>
+ */
+public final class TransformNode {
+
+    private final TransformNode parent;
+
+    //Local
+    private double localX, localY, localZ;
+    private float localYaw, localPitch;
+    private boolean localDirty = true;
+
+    //World
+    private World world;
+    private double worldX, worldY, worldZ;
+    private float worldYaw, worldPitch;
+    private long version;
+    private long parentVersion = -1;
+
+    public TransformNode(TransformNode parent) {
+        this.parent = parent;
+    }
+
+    public TransformNode getParent() {
+        return parent;
+    }
+
+    public void setLocal(double x, double y, double z) {
+        setLocal(x, y, z, localYaw, localPitch);
+    }
+
+    public void setLocal(double x, double y, double z, float yaw, float pitch) {
+        if (x == localX && y == localY && z == localZ && yaw == localYaw && pitch == localPitch) return;
+        localX = x;
+        localY = y;
+        localZ = z;
+        localYaw = yaw;
+        localPitch = pitch;
+        localDirty = true;
+    }
+
+    // Root nodes carry the world; child nodes inherit it from their parent
+    public void setWorld(World world) {
+        if (this.world == world) return;
+        this.world = world;
+        version++;
+    }
+
+    /**
+     * Seeds the world transform directly, e.g. from a constructor location before the parent has been computed.
+     */
+    public void setWorldTransform(Location location) {
+        setWorldTransform(location.getWorld(), location.getX(), location.getY(), location.getZ(),
+                location.getYaw(), location.getPitch());
+    }
+
+    public void setWorldTransform(World world, double x, double y, double z, float yaw, float pitch) {
+        this.world = world;
+        worldX = x;
+        worldY = y;
+        worldZ = z;
+        worldYaw = yaw;
+        worldPitch = pitch;
+        version++;
+    }
+
+    /**
+     * Brings the world transform up to date.
+     *
+     * @return True if the world transform changed.
+     */
+    public boolean recompute() {
+        double x, y, z;
+        float yaw, pitch;
+        World newWorld;
+
+        if (parent != null) {
+            if (!localDirty && parent.version == parentVersion) return false;
+            parentVersion = parent.version;
+            newWorld = parent.world;
+            x = parent.worldX + localX;
+            y = parent.worldY + localY;
+            z = parent.worldZ + localZ;
+            yaw = parent.worldYaw + localYaw;
+            pitch = parent.worldPitch + localPitch;
+        } else {
+            if (!localDirty) return false;
+            newWorld = world;
+            x = localX;
+            y = localY;
+            z = localZ;
+            yaw = localYaw;
+            pitch = localPitch;
+        }
+        localDirty = false;
+
+        if (newWorld == world && x == worldX && y == worldY && z == worldZ && yaw == worldYaw && pitch == worldPitch) {
+            return false;
+        }
+        world = newWorld;
+        worldX = x;
+        worldY = y;
+        worldZ = z;
+        worldYaw = yaw;
+        worldPitch = pitch;
+        version++;
+        return true;
+    }
+
+    // Forces children to recompute on their next pass even if nothing changed
+    public void invalidate() {
+        localDirty = true;
+        version++;
+    }
+
+    public Location toLocation() {
+        return new Location(world, worldX, worldY, worldZ, worldYaw, worldPitch);
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public double getWorldX() {
+        return worldX;
+    }
+
+    public double getWorldY() {
+        return worldY;
+    }
+
+    public double getWorldZ() {
+        return worldZ;
+    }
+
+    public float getWorldYaw() {
+        return worldYaw;
+    }
+
+    public float getWorldPitch() {
+        return worldPitch;
+    }
+
+    public double getLocalX() {
+        return localX;
+    }
+
+    public double getLocalY() {
+        return localY;
+    }
+
+    public double getLocalZ() {
+        return localZ;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
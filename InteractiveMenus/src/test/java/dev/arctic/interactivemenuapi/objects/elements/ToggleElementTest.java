@@ -0,0 +1,48 @@
+package dev.arctic.interactivemenuapi.objects.elements;
+
+import dev.arctic.interactivemenuapi.animation.AnimationType;
+import dev.arctic.interactivemenuapi.interaction.ClickType;
+import dev.arctic.interactivemenuapi.objects.Division;
+import dev.arctic.interactivemenuapi.objects.Menu;
+import dev.arctic.interactivemenuapi.render.RecordingRenderBackend;
+import dev.arctic.interactivemenuapi.scheduler.MenuScheduler;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ToggleElementTest {
+
+    private Menu menu;
+
+    @AfterEach
+    void tearDown() {
+        MenuScheduler.unregister(menu);
+    }
+
+    @Test
+    void pressingTwiceReturnsToTheStartingPosition() {
+        // No world, so no anchor entity, and a detached scheduler, like the benchmarks
+        MenuScheduler.startDetached();
+        menu = new Menu(new Location(null, 0, 64, 0), 60);
+        menu.setDoCleanup(false);
+        menu.setRenderBackend(new RecordingRenderBackend());
+
+        Division division = new Division(menu, menu.getRootLocation().clone(), new Vector(), AnimationType.NONE, 0);
+        ToggleElement toggle = new ToggleElement(menu, division, new Vector(1, 0, 0), AnimationType.FORWARD, 0.1);
+        division.getElements().add(toggle);
+        menu.getDivisions().add(division);
+        menu.updateMenuLocation();
+
+        Location start = toggle.getLocation();
+
+        toggle.handleClick(null, ClickType.RIGHT);
+        assertNotEquals(start, toggle.getLocation());
+
+        toggle.handleClick(null, ClickType.RIGHT);
+        assertEquals(start, toggle.getLocation());
+    }
+}
@@ -0,0 +1,47 @@
+package dev.arctic.interactivemenuapi.pool;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.util.Transformation;
+import org.joml.AxisAngle4f;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EntityPoolTest {
+
+    private static final Transformation IDENTITY = new Transformation(
+            new Vector3f(), new AxisAngle4f(), new Vector3f(1, 1, 1), new AxisAngle4f());
+
+    @Test
+    void releasedDisplayComesBackWithIdentityTransformation() {
+        World world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+
+        TextDisplay display = mock(TextDisplay.class);
+        when(display.getWorld()).thenReturn(world);
+        when(display.isValid()).thenReturn(true);
+
+        // A menu scaled and turned it before releasing it
+        display.setTransformation(new Transformation(
+                new Vector3f(), new AxisAngle4f((float) Math.toRadians(90), 0, 1, 0), new Vector3f(3, 3, 3), new AxisAngle4f()));
+
+        EntityPool.release(display);
+        EntityPool pool = EntityPool.of(world);
+        assertEquals(1, pool.getFreeCount(TextDisplay.class));
+        verify(display).setTransformation(IDENTITY);
+
+        TextDisplay acquired = pool.acquire(new Location(world, 0, 64, 0), TextDisplay.class, entity -> {
+        });
+        assertSame(display, acquired);
+        assertEquals(0, pool.getFreeCount(TextDisplay.class));
+    }
+}